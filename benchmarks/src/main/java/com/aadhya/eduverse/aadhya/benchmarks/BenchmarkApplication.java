@@ -0,0 +1,38 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import com.aadhya.eduverse.aadhya.AadhyaApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// One application context per fork: H2 seeded by DataInitializer, no web server, stub mail
+// sender (BenchmarkMailConfig sits under the application package and is picked up by scanning)
+@State(Scope.Benchmark)
+public class BenchmarkApplication {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(AadhyaApplication.class)
+                .profiles("bench")
+                .web(WebApplicationType.NONE)
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
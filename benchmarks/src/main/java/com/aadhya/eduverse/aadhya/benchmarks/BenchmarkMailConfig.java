@@ -0,0 +1,60 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+@Configuration
+@Profile("bench")
+public class BenchmarkMailConfig {
+
+    // Replaces the auto-configured sender; not a JavaMailSenderImpl, so nothing opens SMTP connections
+    @Bean
+    public JavaMailSender javaMailSender() {
+        return new StubMailSender();
+    }
+
+    static final class StubMailSender implements JavaMailSender {
+
+        private final Session session = Session.getInstance(new Properties());
+
+        @Override
+        public MimeMessage createMimeMessage() {
+            return new MimeMessage(session);
+        }
+
+        @Override
+        public MimeMessage createMimeMessage(InputStream contentStream) {
+            try {
+                return new MimeMessage(session, contentStream);
+            } catch (MessagingException e) {
+                throw new MailParseException(e);
+            }
+        }
+
+        @Override
+        public void send(MimeMessage mimeMessage) {
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+        }
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) {
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+        }
+    }
+}
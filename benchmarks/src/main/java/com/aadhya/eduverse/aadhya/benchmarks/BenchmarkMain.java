@@ -0,0 +1,34 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// java -jar target/benchmarks.jar [JMH options]
+// Defaults to JSON results in jmh-result.json with the GC profiler, so every run records
+// latency percentiles and gc.alloc.rate.norm for comparison against the last baseline.
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler("gc");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,63 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import com.aadhya.eduverse.aadhya.config.CacheConfig;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import com.aadhya.eduverse.aadhya.service.ProductService;
+import com.aadhya.eduverse.aadhya.service.ServiceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogServiceBenchmark {
+
+    @Param({"Training", "Development"})
+    private String category;
+
+    private ProductService productService;
+    private ServiceService serviceService;
+    private Cache productsCache;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        productService = application.bean(ProductService.class);
+        serviceService = application.bean(ServiceService.class);
+        productsCache = application.bean(CacheManager.class).getCache(CacheConfig.PRODUCTS);
+    }
+
+    @Benchmark
+    public List<Product> getAllProducts() {
+        return productService.getAllProducts();
+    }
+
+    // Cache miss path: one query against H2 plus entity hydration
+    @Benchmark
+    public List<Product> getAllProductsUncached() {
+        productsCache.clear();
+        return productService.getAllProducts();
+    }
+
+    @Benchmark
+    public List<Service> getServicesByCategory() {
+        return serviceService.getServicesByCategory(category);
+    }
+}
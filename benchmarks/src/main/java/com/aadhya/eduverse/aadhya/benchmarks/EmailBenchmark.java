@@ -0,0 +1,45 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import com.aadhya.eduverse.aadhya.dto.ContactFormDTO;
+import com.aadhya.eduverse.aadhya.service.EmailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailBenchmark {
+
+    private EmailService emailService;
+    private ContactFormDTO contactForm;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        emailService = application.bean(EmailService.class);
+        contactForm = new ContactFormDTO(
+                "Priya Sharma",
+                "priya.sharma@example.com",
+                "Batch timings for the competitive exam course",
+                "Hello, I would like to know the batch timings and fee structure for the upcoming "
+                        + "competitive exam preparation course, and whether weekend batches are available.");
+    }
+
+    @Benchmark
+    public SimpleMailMessage buildContactMessage() {
+        return emailService.buildContactMessage(contactForm);
+    }
+}
@@ -0,0 +1,50 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import com.aadhya.eduverse.aadhya.controller.HomeController;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.aadhya.eduverse.aadhya.service.HomeSnapshotService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HomeBenchmark {
+
+    private HomeController homeController;
+    private HomeSnapshotService homeSnapshotService;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        homeController = application.bean(HomeController.class);
+        homeSnapshotService = application.bean(HomeSnapshotService.class);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> getHomeData() {
+        return homeController.getHomeData();
+    }
+
+    // Cost of a catalog write on the home endpoint: aggregate and re-serialize from warm caches
+    @Benchmark
+    public ResponseEntity<byte[]> getHomeDataAfterChange() {
+        homeSnapshotService.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.RELOADED, null));
+        return homeController.getHomeData();
+    }
+}
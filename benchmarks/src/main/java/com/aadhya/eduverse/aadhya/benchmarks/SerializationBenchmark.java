@@ -0,0 +1,71 @@
+package com.aadhya.eduverse.aadhya.benchmarks;
+
+import com.aadhya.eduverse.aadhya.model.CompanyInfo;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import com.aadhya.eduverse.aadhya.service.CompanyInfoService;
+import com.aadhya.eduverse.aadhya.service.ProductService;
+import com.aadhya.eduverse.aadhya.service.ServiceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The application's ObjectMapper, so the lazy-attribute module is part of what is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<Product> productList;
+    private Product productDetail;
+    private Service serviceDetail;
+    private CompanyInfo companyInfo;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        objectMapper = application.bean(ObjectMapper.class);
+        ProductService productService = application.bean(ProductService.class);
+        ServiceService serviceService = application.bean(ServiceService.class);
+
+        productList = productService.getAllProducts();
+        productDetail = productService.getProductById(productList.get(0).getId()).orElseThrow();
+        serviceDetail = serviceService.getServiceById(serviceService.getAllServices().get(0).getId()).orElseThrow();
+        companyInfo = application.bean(CompanyInfoService.class).getCompanyInfo().orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] productList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productList);
+    }
+
+    @Benchmark
+    public byte[] productDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productDetail);
+    }
+
+    @Benchmark
+    public byte[] serviceDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(serviceDetail);
+    }
+
+    @Benchmark
+    public byte[] companyInfo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(companyInfo);
+    }
+}
@@ -0,0 +1,53 @@
+package com.aadhya.eduverse.aadhya.benchmarks.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Latency samples and error count for one endpoint; exact percentiles from the sorted samples
+final class EndpointStats {
+
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Map<String, Object> summary(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", name);
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+        summary.put("throughputPerSecond", count / durationSeconds);
+        summary.put("p50Millis", percentileMillis(sorted, 0.50));
+        summary.put("p95Millis", percentileMillis(sorted, 0.95));
+        summary.put("p99Millis", percentileMillis(sorted, 0.99));
+        summary.put("maxMillis", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,174 @@
+package com.aadhya.eduverse.aadhya.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Closed-loop driver: each virtual user picks a weighted request, waits for the response, repeats.
+// Samples taken during warm-up are discarded.
+final class LoadDriver {
+
+    private record Scenario(String name, int weight) {
+    }
+
+    private static final List<Scenario> MIX = List.of(
+            new Scenario("GET /api/home", 30),
+            new Scenario("GET /api/products/page", 10),
+            new Scenario("GET /api/services/page", 10),
+            new Scenario("GET /api/services/category/{category}", 10),
+            new Scenario("GET /api/products/{id}", 15),
+            new Scenario("GET /api/services/{id}", 15),
+            new Scenario("POST /api/contact/send", 10));
+    private static final List<String> CATEGORIES = List.of("Training", "Competitive Exam", "Development");
+
+    private final URI baseUri;
+    private final int users;
+    private final Duration warmUp;
+    private final Duration duration;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final int totalWeight = MIX.stream().mapToInt(Scenario::weight).sum();
+
+    private long[] productIds;
+    private long[] serviceIds;
+    private volatile boolean recording;
+
+    LoadDriver(URI baseUri, int users, Duration warmUp, Duration duration) {
+        this.baseUri = baseUri;
+        this.users = users;
+        this.warmUp = warmUp;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        MIX.forEach(scenario -> stats.put(scenario.name(), new EndpointStats(scenario.name())));
+    }
+
+    Map<String, Object> run() throws IOException, InterruptedException {
+        productIds = ids("/api/products");
+        serviceIds = ids("/api/services");
+
+        long deadline = System.nanoTime() + warmUp.toNanos() + duration.toNanos();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                virtualUsers.submit(() -> userLoop(deadline));
+            }
+            Thread.sleep(warmUp.toMillis());
+            recording = true;
+            virtualUsers.shutdown();
+            virtualUsers.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        stats.values().forEach(endpoint -> endpoints.add(endpoint.summary(seconds)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("target", baseUri.toString());
+        result.put("users", users);
+        result.put("warmUpSeconds", warmUp.toSeconds());
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("catalogProducts", productIds.length);
+        result.put("catalogServices", serviceIds.length);
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private void userLoop(long deadline) {
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pick();
+            HttpRequest request = request(scenario.name());
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (recording) {
+                stats.get(scenario.name()).record(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    private Scenario pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : MIX) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return MIX.get(0);
+    }
+
+    private HttpRequest request(String scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario) {
+            case "GET /api/home" -> get("/api/home");
+            case "GET /api/products/page" -> get("/api/products/page?size=20&after=" + randomId(productIds));
+            case "GET /api/services/page" -> get("/api/services/page?size=20&after=" + randomId(serviceIds));
+            case "GET /api/services/category/{category}" ->
+                    get("/api/services/category/" + CATEGORIES.get(random.nextInt(CATEGORIES.size())).replace(" ", "%20"));
+            case "GET /api/products/{id}" -> get("/api/products/" + randomId(productIds));
+            case "GET /api/services/{id}" -> get("/api/services/" + randomId(serviceIds));
+            case "POST /api/contact/send" -> HttpRequest.newBuilder(baseUri.resolve("/api/contact/send"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(contactBody(random.nextInt(1_000_000))))
+                    .build();
+            default -> throw new IllegalArgumentException(scenario);
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static long randomId(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static String contactBody(int visitor) {
+        return "{\"name\":\"Visitor " + visitor + "\",\"email\":\"visitor" + visitor + "@example.com\","
+                + "\"subject\":\"Course enquiry " + visitor + "\","
+                + "\"message\":\"Please share the schedule and fees for your next training batch.\"}";
+    }
+
+    private long[] ids(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(path), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        JsonNode items = objectMapper.readTree(response.body());
+        long[] ids = new long[items.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = items.get(i).get("id").asLong();
+        }
+        if (ids.length == 0) {
+            throw new IllegalStateException("GET " + path + " returned no rows to drive detail requests");
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,114 @@
+package com.aadhya.eduverse.aadhya.benchmarks.loadtest;
+
+import com.aadhya.eduverse.aadhya.AadhyaApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// java -cp target/benchmarks.jar com.aadhya.eduverse.aadhya.benchmarks.loadtest.LoadTestMain [--option=value ...]
+//
+//   --users=64 --warmup=10s --duration=60s      closed-loop virtual users and run length
+//   --products=2000 --services=5000              catalog size seeded on top of DataInitializer
+//   --profiles=vthreads                          extra Spring profiles, e.g. to compare thread models
+//   --target=http://host:8080                    drive an already running instance instead
+//   --output=loadtest-result.json
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "64"));
+        Duration warmUp = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "60s"));
+        File output = new File(options.getOrDefault("output", "loadtest-result.json"));
+
+        GreenMail smtp = null;
+        ScheduledExecutorService purger = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            URI target;
+            if (options.containsKey("target")) {
+                target = URI.create(options.get("target"));
+            } else {
+                smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+                smtp.setUser("loadtest@aadhya.test", "loadtest");
+                smtp.start();
+                // Delivered mail is only counted, not inspected; keep GreenMail's heap flat on long runs
+                GreenMail mailbox = smtp;
+                purger = Executors.newSingleThreadScheduledExecutor();
+                purger.scheduleWithFixedDelay(mailbox::purgeEmailFromAllMailboxes, 10, 10, TimeUnit.SECONDS);
+
+                List<String> profiles = new ArrayList<>(List.of("loadtest"));
+                if (options.containsKey("profiles")) {
+                    profiles.addAll(List.of(options.get("profiles").split(",")));
+                }
+                context = new SpringApplicationBuilder(AadhyaApplication.class)
+                        .profiles(profiles.toArray(String[]::new))
+                        .properties(
+                                "server.port=0",
+                                "spring.mail.port=" + smtp.getSmtp().getPort(),
+                                "loadtest.products=" + options.getOrDefault("products", "2000"),
+                                "loadtest.services=" + options.getOrDefault("services", "5000"))
+                        .run();
+                target = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            }
+
+            Map<String, Object> result = new LoadDriver(target, users, warmUp, duration).run();
+            if (context != null) {
+                result.put("profiles", List.of(context.getEnvironment().getActiveProfiles()));
+                result.put("virtualThreads", context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"));
+            }
+            print(result);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+            System.out.println("Results written to " + output.getAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (purger != null) {
+                purger.shutdownNow();
+            }
+            if (smtp != null) {
+                smtp.stop();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> result) {
+        System.out.printf("%n%-40s %9s %8s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) result.get("endpoints")) {
+            System.out.printf("%-40s %9d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                    endpoint.get("endpoint"), endpoint.get("requests"), endpoint.get("errors"),
+                    endpoint.get("throughputPerSecond"), endpoint.get("p50Millis"),
+                    endpoint.get("p95Millis"), endpoint.get("p99Millis"));
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
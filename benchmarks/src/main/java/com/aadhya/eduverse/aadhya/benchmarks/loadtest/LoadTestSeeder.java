@@ -0,0 +1,104 @@
+package com.aadhya.eduverse.aadhya.benchmarks.loadtest;
+
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import com.aadhya.eduverse.aadhya.repository.ProductRepository;
+import com.aadhya.eduverse.aadhya.repository.ServiceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Grows the DataInitializer catalog to loadtest.products / loadtest.services rows. Runs ahead of
+// the home snapshot warm-up, before anything has been cached, so no invalidation is needed.
+@Component
+@Profile("loadtest")
+public class LoadTestSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    private static final List<String> CATEGORIES = List.of(
+            "Training", "Competitive Exam", "Development", "Consulting", "Workshops");
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ServiceRepository serviceRepository;
+    private final int productCount;
+    private final int serviceCount;
+    private final int descriptionLength;
+
+    @Autowired
+    public LoadTestSeeder(
+            ProductRepository productRepository,
+            ServiceRepository serviceRepository,
+            @Value("${loadtest.products:2000}") int productCount,
+            @Value("${loadtest.services:5000}") int serviceCount,
+            @Value("${loadtest.description-length:2000}") int descriptionLength) {
+        this.productRepository = productRepository;
+        this.serviceRepository = serviceRepository;
+        this.productCount = productCount;
+        this.serviceCount = serviceCount;
+        this.descriptionLength = descriptionLength;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void seed() {
+        long start = System.nanoTime();
+        String description = description(descriptionLength);
+
+        List<Product> products = new ArrayList<>(CHUNK_SIZE);
+        for (long i = productRepository.count(); i < productCount; i++) {
+            Product product = new Product();
+            product.setName("Load Test Product " + i);
+            product.setShortDescription("Generated product " + i + " for capacity testing");
+            product.setDescription(description);
+            product.setImageUrl("/images/products/explainable-ai.jpg");
+            product.setProductUrl("/products/load-test-" + i);
+            products.add(product);
+            if (products.size() == CHUNK_SIZE) {
+                productRepository.saveAll(products);
+                products.clear();
+            }
+        }
+        productRepository.saveAll(products);
+
+        List<Service> services = new ArrayList<>(CHUNK_SIZE);
+        for (long i = serviceRepository.count(); i < serviceCount; i++) {
+            Service service = new Service();
+            service.setName("Load Test Service " + i);
+            service.setCategory(CATEGORIES.get((int) (i % CATEGORIES.size())));
+            service.setShortDescription("Generated service " + i + " for capacity testing");
+            service.setDescription(description);
+            service.setImageUrl("/images/services/training.jpg");
+            services.add(service);
+            if (services.size() == CHUNK_SIZE) {
+                serviceRepository.saveAll(services);
+                services.clear();
+            }
+        }
+        serviceRepository.saveAll(services);
+
+        log.warn("Seeded load test catalog: {} products, {} services in {} ms", productRepository.count(),
+                serviceRepository.count(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static String description(int length) {
+        String sentence = "This generated description stands in for a full catalog entry with course outlines, "
+                + "schedules and outcomes. ";
+        StringBuilder text = new StringBuilder(length + sentence.length());
+        while (text.length() < length) {
+            text.append(sentence);
+        }
+        return text.substring(0, length);
+    }
+}
@@ -0,0 +1,167 @@
+package com.aadhya.eduverse.aadhya.build;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Build-time step (exec-maven-plugin, prepare-package), launched as a single source file so that it
+// is never compiled into the application. Under target/classes/static it
+//  - copies every asset except index.html to a content-hashed name (logo.png -> logo-<hash>.png),
+//  - lists those names in asset-manifest.properties, read at runtime by StaticAssetManifest,
+//  - writes .gz and .br siblings for compressible files so that EncodedResourceResolver can serve
+//    them without compressing per request.
+public final class StaticAssetPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetPipeline.class);
+
+    // Must match StaticAssetManifest.HASHED
+    private static final Pattern HASHED = Pattern.compile("-[0-9a-f]{16}(\\.[^/.]+)$");
+    private static final String MANIFEST = "asset-manifest.properties";
+
+    // Entry points are referenced by their plain name; README.md is not served to anyone
+    private static final Set<String> UNVERSIONED = Set.of("index.html", "README.md", MANIFEST);
+
+    private static final Set<String> COMPRESSIBLE = Set.of(
+            "html", "css", "js", "mjs", "json", "map", "svg", "txt", "xml", "ico", "webmanifest");
+
+    // Variants that do not save at least this fraction are not worth a lookup
+    private static final double MIN_SAVING = 0.1;
+
+    private StaticAssetPipeline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path root = Paths.get(args.length > 0 ? args[0] : "target/classes/static");
+        if (!Files.isDirectory(root)) {
+            log.info("{} not found, nothing to process", root);
+            return;
+        }
+
+        // target/classes survives between builds: drop the outputs of the previous run first
+        List<Path> sources = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                if (isDerived(name)) {
+                    Files.delete(file);
+                } else if (!name.equals(MANIFEST)) {
+                    sources.add(file);
+                }
+            }
+        }
+
+        boolean brotli = brotliAvailable();
+        Map<String, String> manifest = new TreeMap<>();
+        int compressed = 0;
+        for (Path source : sources) {
+            byte[] content = Files.readAllBytes(source);
+            compressed += compress(source, content, brotli);
+            if (UNVERSIONED.contains(source.getFileName().toString())) {
+                continue;
+            }
+            Path hashed = source.resolveSibling(hashedName(source.getFileName().toString(), content));
+            Files.write(hashed, content);
+            compressed += compress(hashed, content, brotli);
+            manifest.put(urlPath(root, source), urlPath(root, hashed));
+        }
+
+        try (Writer out = Files.newBufferedWriter(root.resolve(MANIFEST), StandardCharsets.ISO_8859_1)) {
+            out.write("# Generated by StaticAssetPipeline: source URL path=content-hashed URL path\n");
+            for (Map.Entry<String, String> entry : manifest.entrySet()) {
+                out.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+        log.info("Fingerprinted {} asset(s), wrote {} pre-compressed variant(s){}", manifest.size(), compressed,
+                brotli ? "" : " (brotli unavailable on this platform, gzip only)");
+    }
+
+    private static boolean isDerived(String name) {
+        return name.endsWith(".gz") || name.endsWith(".br") || HASHED.matcher(name).find();
+    }
+
+    private static String hashedName(String name, byte[] content) {
+        String hash = HexFormat.of().formatHex(sha256(content), 0, 8);
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) + "-" + hash + name.substring(dot) : name + "-" + hash;
+    }
+
+    private static String urlPath(Path root, Path file) {
+        return "/" + root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static int compress(Path asset, byte[] content, boolean brotli) throws IOException {
+        if (!isCompressible(asset)) {
+            return 0;
+        }
+        int written = writeIfSmaller(asset, ".gz", content, gzip(content));
+        if (brotli) {
+            written += writeIfSmaller(asset, ".br", content, Encoder.compress(content, new Encoder.Parameters().setQuality(11)));
+        }
+        return written;
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && COMPRESSIBLE.contains(name.substring(dot + 1));
+    }
+
+    private static int writeIfSmaller(Path asset, String suffix, byte[] original, byte[] compressed) throws IOException {
+        if (compressed.length > original.length * (1 - MIN_SAVING)) {
+            return 0;
+        }
+        Files.write(asset.resolveSibling(asset.getFileName() + suffix), compressed);
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean brotliAvailable() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
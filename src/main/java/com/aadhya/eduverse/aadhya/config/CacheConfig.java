@@ -0,0 +1,15 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Backend comes from spring.cache.* (Caffeine by default), names must match spring.cache.cache-names
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String PRODUCTS = "products";
+    public static final String PRODUCT_BY_ID = "productById";
+    public static final String SERVICES = "services";
+    public static final String SERVICE_BY_ID = "serviceById";
+}
@@ -0,0 +1,62 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Comparator;
+import java.util.Map;
+
+// Answers If-None-Match from the catalog tag before the controller runs,
+// so a 304 costs no database access and no JSON serialization
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CatalogChangePublisher changePublisher;
+    private final HttpCacheProperties cacheProperties;
+    private final StaticAssetManifest staticAssetManifest;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConditionalGetInterceptor(CatalogChangePublisher changePublisher, HttpCacheProperties cacheProperties,
+            StaticAssetManifest staticAssetManifest) {
+        this.changePublisher = changePublisher;
+        this.cacheProperties = cacheProperties;
+        this.staticAssetManifest = staticAssetManifest;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        String cacheControl = resolveCacheControl(request.getRequestURI().substring(request.getContextPath().length()));
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        // Read before the handler runs: the tag only advances after caches
+        // are refreshed, so the body served below is never older than this tag
+        String tag = changePublisher.currentTag();
+        if (tag == null) {
+            return true; // a write is still being applied, no validator for this response
+        }
+        // Bodies carry hashed asset URLs, which change with the deployment rather than the catalog
+        String assets = staticAssetManifest.digest();
+        String etag = assets == null ? tag : tag + "-a" + assets;
+        return !new ServletWebRequest(request, response).checkNotModified("\"" + etag + "\"");
+    }
+
+    private String resolveCacheControl(String path) {
+        Comparator<String> mostSpecificFirst = pathMatcher.getPatternComparator(path);
+        return cacheProperties.getCacheControl().entrySet().stream()
+                .filter(entry -> pathMatcher.match(entry.getKey(), path))
+                .min((a, b) -> mostSpecificFirst.compare(a.getKey(), b.getKey()))
+                .map(Map.Entry::getValue)
+                .orElse(null);
+    }
+}
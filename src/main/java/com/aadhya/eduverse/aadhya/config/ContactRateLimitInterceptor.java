@@ -0,0 +1,42 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.aadhya.eduverse.aadhya.service.ContactRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Rejects over-limit clients before the JSON body is read or validated
+public class ContactRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final byte[] REJECTED_BODY = "{\"success\":false,\"message\":\"Too many requests, please try again later\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ContactRateLimiter contactRateLimiter;
+
+    public ContactRateLimitInterceptor(ContactRateLimiter contactRateLimiter) {
+        this.contactRateLimiter = contactRateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        long wait = contactRateLimiter.acquireForClient(request.getRemoteAddr());
+        if (wait == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ContactRateLimiter.retryAfterSeconds(wait)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+        return false;
+    }
+}
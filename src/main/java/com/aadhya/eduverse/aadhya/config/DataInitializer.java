@@ -8,11 +8,15 @@ import com.aadhya.eduverse.aadhya.repository.ProductRepository;
 import com.aadhya.eduverse.aadhya.repository.ServiceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+// Dev-time seeding; fast-start and migrate use versioned seed files (SeedDataLoader) instead
 @Component
+@Profile("!fast-start & !migrate")
 public class DataInitializer implements CommandLineRunner {
 
     private final ProductRepository productRepository;
@@ -30,6 +34,7 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     @Override
+    @Transactional // the emptiness check must see the primary, not a replica
     public void run(String... args) {
         // Only initialize if no data exists
         if (productRepository.count() == 0 && serviceRepository.count() == 0 && companyInfoRepository.count() == 0) {
@@ -0,0 +1,22 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache-Control values for the read APIs keyed by Ant path pattern, e.g.
+// app.http.cache-control[/api/home]=public, max-age=30
+@ConfigurationProperties(prefix = "app.http")
+public class HttpCacheProperties {
+    
+    private Map<String, String> cacheControl = new LinkedHashMap<>();
+    
+    public Map<String, String> getCacheControl() {
+        return cacheControl;
+    }
+    
+    public void setCacheControl(Map<String, String> cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+}
@@ -0,0 +1,117 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import org.hibernate.Hibernate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class JacksonConfig {
+
+    private static final Set<String> STATIC_ASSET_URLS = Set.of("imageUrl", "logoUrl");
+
+    // Entities loaded by list queries leave lazy LOBs unfetched; omit those
+    // attributes from the JSON instead of triggering a fetch on a closed session
+    @Bean
+    public Module lazyAttributeModule() {
+        SimpleModule module = new SimpleModule("LazyAttributeModule");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                Class<?> beanClass = beanDesc.getBeanClass();
+                if (!beanClass.isAnnotationPresent(Entity.class)) {
+                    return beanProperties;
+                }
+                List<BeanPropertyWriter> writers = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyWriter writer : beanProperties) {
+                    writers.add(isLazy(beanClass, writer.getName()) ? new LoadedAttributeWriter(writer) : writer);
+                }
+                return writers;
+            }
+        });
+        return module;
+    }
+
+    // imageUrl/logoUrl hold plain static paths (/images/logo.png); clients get the content-hashed
+    // name, which they may cache for a year. Stored values are left alone.
+    @Bean
+    public Module staticAssetUrlModule(StaticAssetManifest manifest) {
+        SimpleModule module = new SimpleModule("StaticAssetUrlModule");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                List<BeanPropertyWriter> writers = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyWriter writer : beanProperties) {
+                    boolean assetUrl = STATIC_ASSET_URLS.contains(writer.getName()) && writer.getType().hasRawClass(String.class);
+                    writers.add(assetUrl ? new StaticAssetUrlWriter(writer, manifest) : writer);
+                }
+                return writers;
+            }
+        });
+        return module;
+    }
+
+    private static boolean isLazy(Class<?> beanClass, String property) {
+        Field field = ReflectionUtils.findField(beanClass, property);
+        if (field == null) {
+            return false;
+        }
+        Basic basic = field.getAnnotation(Basic.class);
+        return basic != null && basic.fetch() == FetchType.LAZY;
+    }
+
+    static final class LoadedAttributeWriter extends BeanPropertyWriter {
+
+        LoadedAttributeWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (Hibernate.isPropertyInitialized(bean, getName())) {
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+    }
+
+    static final class StaticAssetUrlWriter extends BeanPropertyWriter {
+
+        private final StaticAssetManifest manifest;
+
+        StaticAssetUrlWriter(BeanPropertyWriter base, StaticAssetManifest manifest) {
+            super(base);
+            this.manifest = manifest;
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Object url = get(bean);
+            if (url == null) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            gen.writeFieldName(_name);
+            gen.writeString(manifest.versioned((String) url));
+        }
+    }
+}
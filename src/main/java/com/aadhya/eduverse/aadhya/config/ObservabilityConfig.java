@@ -0,0 +1,17 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Turns @Observed service classes into an "aadhya.service" timer (tagged class/method) and a span
+// per call. HTTP endpoints, repositories, caches, Hikari and JDBC are instrumented by auto-configuration.
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
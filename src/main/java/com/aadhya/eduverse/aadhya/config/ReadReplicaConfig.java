@@ -0,0 +1,67 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// Enabled by app.datasource.replica.url. Replaces the auto-configured pool with a routing
+// DataSource; the two pools are not beans themselves, so JPA, Flyway and JdbcTemplate all
+// pick up the one routing DataSource. JDBC observation wraps the routing bean, not the lazy
+// proxy in front of it (see jdbc.excluded-datasource-bean-names): the connection observation
+// reads the connection's metadata, which would fetch it before the read-only flag is known.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadReplicaRouting readReplicaRouting(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        // Not setMetricRegistry: Hikari looks that up by reflection against the registry's concrete class
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("app.datasource.replica.url"))
+                .username(environment.getProperty("app.datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("app.datasource.replica.password", properties.determinePassword()))
+                .build();
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        return new ReadReplicaRouting(primary, replica, meterRegistry);
+    }
+
+    @Bean
+    public DataSource routingDataSource(ReadReplicaRouting readReplicaRouting) {
+        return readReplicaRouting.routingDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource readReplicaDataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,152 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Owns the primary and replica pools and decides per connection which one serves it: read-only
+// transactions go to the replica while it is caught up, everything else to the primary.
+// "Caught up" means the replica's catalog_version rows have reached every version this node has
+// written or observed, so a reader never caches data older than what triggered its invalidation.
+public class ReadReplicaRouting implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRouting.class);
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<CatalogEntityType, Long> required = new EnumMap<>(CatalogEntityType.class); // guarded by lock
+    private final Map<CatalogEntityType, Long> replicated = new EnumMap<>(CatalogEntityType.class); // guarded by lock
+    private volatile boolean replicaUsable; // false until the first successful check
+
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+
+    public ReadReplicaRouting(HikariDataSource primary, HikariDataSource replica, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+
+        Gauge.builder("datasource.replica.usable", this, routing -> routing.replicaUsable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+        this.writes = routedCounter(meterRegistry, "primary", "false");
+        this.replicaReads = routedCounter(meterRegistry, "replica", "true");
+        this.fallbackReads = routedCounter(meterRegistry, "primary", "true");
+    }
+
+    // Wrap in a LazyConnectionDataSourceProxy: the lookup has to happen after the transaction's
+    // read-only flag is set, i.e. on the first statement rather than at transaction begin
+    public DataSource routingDataSource() {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return route();
+            }
+        };
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    // Reads must not be served from the replica until it has this version of the type
+    public void requireVersion(CatalogEntityType type, long version) {
+        lock.lock();
+        try {
+            required.merge(type, version, Math::max);
+            replicaUsable = replicaUsable && caughtUp();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:500}")
+    public void checkReplica() {
+        Map<CatalogEntityType, Long> versions = new EnumMap<>(CatalogEntityType.class);
+        try {
+            replicaJdbcTemplate.query("SELECT entity_type, version FROM catalog_version",
+                    rs -> {
+                        versions.put(CatalogEntityType.valueOf(rs.getString(1)), rs.getLong(2));
+                    });
+        } catch (DataAccessException e) {
+            if (replicaUsable) {
+                log.warn("Read replica unavailable, routing reads to the primary: {}", e.getMessage());
+            }
+            replicaUsable = false;
+            return;
+        }
+        lock.lock();
+        try {
+            replicated.clear();
+            replicated.putAll(versions);
+            boolean usable = caughtUp();
+            if (usable != replicaUsable) {
+                log.info(usable ? "Read replica caught up, routing reads to it" : "Read replica lagging, routing reads to the primary");
+            }
+            replicaUsable = usable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Target route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (replicaUsable) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        fallbackReads.increment();
+        return Target.PRIMARY;
+    }
+
+    private boolean caughtUp() {
+        for (Map.Entry<CatalogEntityType, Long> entry : required.entrySet()) {
+            if (replicated.getOrDefault(entry.getKey(), 0L) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target, String readOnly) {
+        return Counter.builder("datasource.routed.connections")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", target)
+                .tag("read.only", readOnly)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        replica.close();
+        primary.close();
+    }
+}
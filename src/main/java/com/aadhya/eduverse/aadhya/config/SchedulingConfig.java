@@ -0,0 +1,12 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Off for the one-shot migrate run, so the JVM exits once migrations and seeds are applied
+@Configuration
+@Profile("!migrate")
+@EnableScheduling
+public class SchedulingConfig {
+}
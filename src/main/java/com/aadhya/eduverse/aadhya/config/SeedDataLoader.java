@@ -0,0 +1,167 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Applies versioned seed files (db/seed/catalog-seed-v*.json) once each, with batched inserts.
+// Every version commits together with its seed_history row, so re-runs and a concurrent
+// second migrator are no-ops (the latter fails on the primary key and rolls back).
+@Component
+@Profile("migrate")
+public class SeedDataLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedDataLoader.class);
+
+    private static final String SEED_FILES = "classpath:db/seed/catalog-seed-v*.json";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResourcePatternResolver resourceResolver;
+    private final int batchSize;
+
+    @Autowired
+    public SeedDataLoader(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            ResourcePatternResolver resourceResolver,
+            @Value("${app.seed.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.resourceResolver = resourceResolver;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<SeedFile> seeds = new ArrayList<>();
+        for (Resource resource : resourceResolver.getResources(SEED_FILES)) {
+            try (InputStream in = resource.getInputStream()) {
+                seeds.add(objectMapper.readValue(in, SeedFile.class));
+            }
+        }
+        seeds.sort(Comparator.comparingInt(SeedFile::getVersion));
+
+        Set<Integer> applied = new HashSet<>(jdbcTemplate.queryForList("SELECT version FROM seed_history", Integer.class));
+        if (applied.isEmpty() && catalogHasRows()) {
+            // Seeded by DataInitializer before seed files existed; v1 holds the same data
+            record(1, true);
+            applied.add(1);
+            log.info("Existing catalog baselined as seed version 1");
+        }
+
+        for (SeedFile seed : seeds) {
+            if (applied.contains(seed.getVersion())) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> apply(seed));
+            log.info("Applied seed version {}: {} products, {} services", seed.getVersion(),
+                    seed.getProducts().size(), seed.getServices().size());
+        }
+    }
+
+    private void apply(SeedFile seed) {
+        if (seed.getCompanyInfo() != null) {
+            Map<String, String> info = seed.getCompanyInfo();
+            jdbcTemplate.update(
+                    "INSERT INTO company_info (name, tagline, about, email, phone, address, logo_url, website_url) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    info.get("name"), info.get("tagline"), info.get("about"), info.get("email"),
+                    info.get("phone"), info.get("address"), info.get("logoUrl"), info.get("websiteUrl"));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (name, short_description, description, image_url, product_url) VALUES (?, ?, ?, ?, ?)",
+                seed.getProducts(), batchSize, (statement, product) -> {
+                    statement.setString(1, product.get("name"));
+                    statement.setString(2, product.get("shortDescription"));
+                    statement.setString(3, product.get("description"));
+                    statement.setString(4, product.get("imageUrl"));
+                    statement.setString(5, product.get("productUrl"));
+                });
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO service (name, category, short_description, description, image_url) VALUES (?, ?, ?, ?, ?)",
+                seed.getServices(), batchSize, (statement, service) -> {
+                    statement.setString(1, service.get("name"));
+                    statement.setString(2, service.get("category"));
+                    statement.setString(3, service.get("shortDescription"));
+                    statement.setString(4, service.get("description"));
+                    statement.setString(5, service.get("imageUrl"));
+                });
+        record(seed.getVersion(), false);
+    }
+
+    private void record(int version, boolean baseline) {
+        jdbcTemplate.update("INSERT INTO seed_history (version, applied_at, baseline) VALUES (?, ?, ?)",
+                version, OffsetDateTime.now(), baseline);
+    }
+
+    private boolean catalogHasRows() {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM product) + (SELECT COUNT(*) FROM service) + (SELECT COUNT(*) FROM company_info)",
+                Integer.class);
+        return rows != null && rows > 0;
+    }
+
+    public static class SeedFile {
+
+        private int version;
+        private Map<String, String> companyInfo;
+        private List<Map<String, String>> products = List.of();
+        private List<Map<String, String>> services = List.of();
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public Map<String, String> getCompanyInfo() {
+            return companyInfo;
+        }
+
+        public void setCompanyInfo(Map<String, String> companyInfo) {
+            this.companyInfo = companyInfo;
+        }
+
+        public List<Map<String, String>> getProducts() {
+            return products;
+        }
+
+        public void setProducts(List<Map<String, String>> products) {
+            this.products = products;
+        }
+
+        public List<Map<String, String>> getServices() {
+            return services;
+        }
+
+        public void setServices(List<Map<String, String>> services) {
+            this.services = services;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+// Content-hashed names (see StaticAssetManifest) never change, so they can be cached for
+// a year; everything else, index.html and the plain names included, must be revalidated.
+public class StaticAssetCacheInterceptor implements HandlerInterceptor {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final StaticAssetManifest manifest;
+
+    public StaticAssetCacheInterceptor(StaticAssetManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, manifest.isVersioned(path) ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+}
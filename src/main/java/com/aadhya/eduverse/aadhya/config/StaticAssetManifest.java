@@ -0,0 +1,89 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Content-hashed names written by StaticAssetPipeline at build time. Catalog and company
+// URLs are rewritten to them when serialized (JacksonConfig), and only those names are
+// cached as immutable (StaticAssetCacheInterceptor). Without a manifest, e.g. when running
+// from the IDE or in tests, every URL is served under its plain name.
+@Component
+public class StaticAssetManifest {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetManifest.class);
+
+    static final String LOCATION = "classpath:static/asset-manifest.properties";
+
+    // Must match StaticAssetPipeline.HASHED
+    private static final Pattern HASHED = Pattern.compile("-[0-9a-f]{16}(\\.[^/.]+)$");
+
+    private final Map<String, String> versioned;
+    private final Set<String> hashed;
+    private final String digest;
+
+    @Autowired
+    public StaticAssetManifest(ResourceLoader resourceLoader) throws IOException {
+        this(load(resourceLoader.getResource(LOCATION)));
+    }
+
+    public StaticAssetManifest(Map<String, String> versioned) {
+        this.versioned = Map.copyOf(versioned);
+        this.hashed = Set.copyOf(versioned.values());
+        // Changes whenever a deployment changes any hashed name
+        this.digest = versioned.isEmpty() ? null
+                : DigestUtils.md5DigestAsHex(new TreeMap<>(versioned).toString().getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+    }
+
+    // The hashed URL for a static asset path; anything else, e.g. an external URL, is returned as is.
+    // Also accepts a hashed name from an earlier build, which a client may have sent back on a write.
+    public String versioned(String url) {
+        if (url == null || hashed.contains(url)) {
+            return url;
+        }
+        String current = versioned.get(url);
+        if (current != null) {
+            return current;
+        }
+        Matcher matcher = HASHED.matcher(url);
+        return matcher.find() ? versioned.getOrDefault(url.substring(0, matcher.start()) + matcher.group(1), url) : url;
+    }
+
+    public boolean isVersioned(String path) {
+        return hashed.contains(path);
+    }
+
+    // Null without a manifest
+    public String digest() {
+        return digest;
+    }
+
+    private static Map<String, String> load(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            log.info("No {}, static assets are served under their plain names", LOCATION);
+            return Map.of();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        }
+        Map<String, String> versioned = new HashMap<>();
+        properties.stringPropertyNames().forEach(name -> versioned.put(name, properties.getProperty(name)));
+        return versioned;
+    }
+}
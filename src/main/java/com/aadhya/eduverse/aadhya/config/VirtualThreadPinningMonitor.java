@@ -0,0 +1,78 @@
+package com.aadhya.eduverse.aadhya.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Streams JFR jdk.VirtualThreadPinned events so blocking calls made while pinned
+// (synchronized blocks, native frames) show up in the logs and in metrics.
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream stream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Monitoring virtual thread pinning above {}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned for {} ms at:\n{}", event.getDuration().toMillis(), topFrames(event));
+        }
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "    <no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(12)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -1,22 +1,56 @@
 package com.aadhya.eduverse.aadhya.config;
 
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.service.ContactRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
 public class WebConfig implements WebMvcConfigurer {
+    
+    private final CatalogChangePublisher changePublisher;
+    private final HttpCacheProperties httpCacheProperties;
+    private final ContactRateLimiter contactRateLimiter;
+    private final StaticAssetManifest staticAssetManifest;
+    
+    @Autowired
+    public WebConfig(CatalogChangePublisher changePublisher, HttpCacheProperties httpCacheProperties,
+            ContactRateLimiter contactRateLimiter, StaticAssetManifest staticAssetManifest) {
+        this.changePublisher = changePublisher;
+        this.httpCacheProperties = httpCacheProperties;
+        this.contactRateLimiter = contactRateLimiter;
+        this.staticAssetManifest = staticAssetManifest;
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOriginPatterns("http://localhost:3000", "http://localhost:8080")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Retry-After")
                 .allowCredentials(true);
     }
     
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Catalog read APIs only; their responses depend on nothing but the catalog version
+        registry.addInterceptor(new ConditionalGetInterceptor(changePublisher, httpCacheProperties, staticAssetManifest))
+                .addPathPatterns("/api/home", "/api/products/**", "/api/services/**", "/api/company/**",
+                        "/api/reactive/**", "/api/search");
+        registry.addInterceptor(new ContactRateLimitInterceptor(contactRateLimiter))
+                .addPathPatterns("/api/contact/send");
+        registry.addInterceptor(new StaticAssetCacheInterceptor(staticAssetManifest))
+                .addPathPatterns("/**")
+                .excludePathPatterns("/api/**", "/actuator/**");
+    }
+    
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         // Forward requests to the React app (excluding API routes and static resources)
@@ -0,0 +1,109 @@
+package com.aadhya.eduverse.aadhya.controller;
+
+import com.aadhya.eduverse.aadhya.service.CatalogBulkService;
+import com.aadhya.eduverse.aadhya.service.CatalogBulkService.Catalog;
+import com.aadhya.eduverse.aadhya.service.CatalogBulkService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bulk NDJSON/CSV catalog transfer: /api/products/bulk and /api/services/bulk.
+// Imports answer with NDJSON progress lines while the upload is still being read.
+@RestController
+@RequestMapping("/api/{catalog:products|services}/bulk")
+public class CatalogBulkController {
+    
+    private static final Logger log = LoggerFactory.getLogger(CatalogBulkController.class);
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    
+    private final CatalogBulkService catalogBulkService;
+    private final ObjectMapper objectMapper;
+    
+    @Autowired
+    public CatalogBulkController(CatalogBulkService catalogBulkService, ObjectMapper objectMapper) {
+        this.catalogBulkService = catalogBulkService;
+        this.objectMapper = objectMapper;
+    }
+    
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCatalog(
+            @PathVariable String catalog,
+            @RequestParam(defaultValue = "false") boolean replace,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) {
+        Catalog target = Catalog.of(catalog);
+        Format format = TEXT_CSV.isCompatibleWith(contentType) ? Format.CSV : Format.NDJSON;
+        
+        StreamingResponseBody body = out -> {
+            long start = System.nanoTime();
+            Map<String, Object> result = new LinkedHashMap<>();
+            try {
+                long imported = catalogBulkService.importCatalog(target, format, replace, request.getInputStream(),
+                        count -> writeLine(out, Map.of("imported", count)));
+                result.put("imported", imported);
+                result.put("done", true);
+            } catch (CatalogBulkService.InvalidRecordException e) {
+                result.put("error", e.getMessage());
+                result.put("line", e.getLine());
+                result.put("rolledBack", true);
+            } catch (RuntimeException e) {
+                log.warn("Bulk import into {} failed", catalog, e);
+                result.put("error", e.getMessage());
+                result.put("rolledBack", true);
+            }
+            result.put("elapsedMillis", (System.nanoTime() - start) / 1_000_000);
+            writeLine(out, result);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @PathVariable String catalog,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        Catalog source = Catalog.of(catalog);
+        Format outputFormat;
+        try {
+            outputFormat = Format.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        StreamingResponseBody body = out -> catalogBulkService.exportCatalog(source, outputFormat, out);
+        return ResponseEntity.ok()
+                .contentType(outputFormat == Format.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + catalog + "."
+                        + (outputFormat == Format.CSV ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+    
+    private void writeLine(OutputStream out, Map<String, Object> line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // Client went away; the import itself carries on to commit or roll back
+            log.debug("Could not write bulk import progress: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.aadhya.eduverse.aadhya.controller;
+
+import com.aadhya.eduverse.aadhya.dto.CatalogChange;
+import com.aadhya.eduverse.aadhya.service.CatalogChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// Catalog change events over SSE, so clients apply deltas instead of polling /api/home.
+// Streams end at spring.mvc.async.request-timeout; EventSource then reconnects with
+// Last-Event-ID and resumes where it left off.
+@RestController
+@RequestMapping("/api/changes")
+public class CatalogChangeController {
+    
+    private final CatalogChangeFeed changeFeed;
+    // One timer shared by every subscriber; keeps idle connections open through proxies
+    private final Flux<ServerSentEvent<CatalogChange>> heartbeat;
+    
+    @Autowired
+    public CatalogChangeController(
+            CatalogChangeFeed changeFeed,
+            @Value("${app.catalog.changes.heartbeat:30s}") Duration heartbeatInterval) {
+        this.changeFeed = changeFeed;
+        this.heartbeat = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<CatalogChange>builder().comment("keep-alive").build())
+                .share();
+    }
+    
+    // "after" is for clients that track the event id themselves instead of using EventSource
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CatalogChange>> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String after) {
+        String resumeFrom = lastEventId != null ? lastEventId : after;
+        Long sequence = resumeFrom != null ? changeFeed.sequenceOf(resumeFrom) : null;
+        Flux<ServerSentEvent<CatalogChange>> changes = changeFeed.changesAfter(sequence)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(changeFeed.eventId(change))
+                        .event(change.getChangeType().name().toLowerCase(Locale.ROOT))
+                        .build());
+        return Flux.merge(changes, heartbeat);
+    }
+}
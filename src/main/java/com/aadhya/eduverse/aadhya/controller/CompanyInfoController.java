@@ -1,5 +1,6 @@
 package com.aadhya.eduverse.aadhya.controller;
 
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
 import com.aadhya.eduverse.aadhya.model.CompanyInfo;
 import com.aadhya.eduverse.aadhya.service.CompanyInfoService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,14 +20,14 @@ public class CompanyInfoController {
     }
     
     @GetMapping
-    public ResponseEntity<CompanyInfo> getCompanyInfo() {
+    public ResponseEntity<CompanyInfoDTO> getCompanyInfo() {
         return companyInfoService.getCompanyInfo()
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
-    public ResponseEntity<CompanyInfo> createOrUpdateCompanyInfo(@RequestBody CompanyInfo companyInfo) {
+    public ResponseEntity<CompanyInfoDTO> createOrUpdateCompanyInfo(@RequestBody CompanyInfo companyInfo) {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(companyInfoService.saveCompanyInfo(companyInfo));
     }
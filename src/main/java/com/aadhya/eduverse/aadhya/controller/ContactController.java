@@ -1,13 +1,17 @@
 package com.aadhya.eduverse.aadhya.controller;
 
 import com.aadhya.eduverse.aadhya.dto.ContactFormDTO;
-import com.aadhya.eduverse.aadhya.service.EmailService;
+import com.aadhya.eduverse.aadhya.service.ContactOutboxService;
+import com.aadhya.eduverse.aadhya.service.ContactRateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,10 +24,11 @@ import java.util.Map;
 public class ContactController {
 
     @Autowired
-    private EmailService emailService;
+    private ContactOutboxService contactOutboxService;
 
     @PostMapping("/send")
-    public ResponseEntity<Map<String, Object>> sendContactEmail(@Valid @RequestBody ContactFormDTO contactForm, BindingResult bindingResult) {
+    public ResponseEntity<Map<String, Object>> sendContactEmail(@Valid @RequestBody ContactFormDTO contactForm, BindingResult bindingResult,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Map<String, Object> response = new HashMap<>();
         
         // Check for validation errors
@@ -41,16 +46,24 @@ public class ContactController {
         }
         
         try {
-            // Send email to your business email
-            emailService.sendContactEmail(contactForm);
+            // Queue the message; delivery to the business mailbox happens in the background
+            Long referenceId = contactOutboxService.enqueue(contactForm, idempotencyKey);
             
             response.put("success", true);
-            response.put("message", "Email sent successfully");
-            return ResponseEntity.ok(response);
+            response.put("message", "Message received and queued for delivery");
+            response.put("referenceId", referenceId);
+            return ResponseEntity.accepted().body(response);
             
+        } catch (ContactOutboxService.SenderRateLimitedException e) {
+            // Per-IP limits are enforced by ContactRateLimitInterceptor before the body is read
+            response.put("success", false);
+            response.put("message", "Too many messages from this address, please try again later");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(ContactRateLimiter.retryAfterSeconds(e.getWaitNanos())))
+                    .body(response);
         } catch (Exception e) {
             response.put("success", false);
-            response.put("message", "Failed to send email: " + e.getMessage());
+            response.put("message", "Failed to queue message: " + e.getMessage());
             return ResponseEntity.status(500).body(response);
         }
     }
@@ -0,0 +1,50 @@
+package com.aadhya.eduverse.aadhya.controller;
+
+import com.aadhya.eduverse.aadhya.service.ImageVariantService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+public class ImageController {
+    
+    private final ImageVariantService imageVariantService;
+    
+    @Autowired
+    public ImageController(ImageVariantService imageVariantService) {
+        this.imageVariantService = imageVariantService;
+    }
+    
+    // e.g. /api/images/images/products/skilltrack.jpg?w=640&q=medium, i.e. the imageUrl from the catalog APIs
+    @GetMapping("/{*imagePath}")
+    public ResponseEntity<Resource> getImage(
+            @PathVariable String imagePath,
+            @RequestParam(name = "w", required = false) Integer width,
+            @RequestParam(name = "q", defaultValue = "medium") String quality,
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = "") String accept) {
+        try {
+            return imageVariantService.getVariant(imagePath, width, quality, accept.contains("image/webp"))
+                    .map(variant -> ResponseEntity.ok()
+                            .contentType(variant.getMediaType())
+                            .cacheControl(CacheControl.maxAge(Duration.ofDays(30)).cachePublic())
+                            // Format depends on Accept (WebP or not)
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                            .body((Resource) new FileSystemResource(variant.getFile())))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
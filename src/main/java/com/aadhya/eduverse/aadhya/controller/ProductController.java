@@ -1,13 +1,16 @@
 package com.aadhya.eduverse.aadhya.controller;
 
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
 import com.aadhya.eduverse.aadhya.model.Product;
 import com.aadhya.eduverse.aadhya.service.ProductService;
+import com.aadhya.eduverse.aadhya.service.WriteOutcome;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/products")
@@ -25,6 +28,18 @@ public class ProductController {
         return ResponseEntity.ok(productService.getAllProducts());
     }
     
+    // Keyset pagination: pass the returned nextCursor as "after"; view=full returns whole entities
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<?>> getProductPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "summary") String view) {
+        CursorPage<?> page = "full".equalsIgnoreCase(view)
+                ? productService.getProductPage(after, size)
+                : productService.getProductSummaries(after, size);
+        return ResponseEntity.ok(page);
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         return productService.getProductById(id)
@@ -34,27 +49,39 @@ public class ProductController {
     
     @PostMapping
     public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+        // Always an insert; updates go through PUT/PATCH
+        product.setId(null);
+        product.setVersion(null);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(productService.saveProduct(product));
     }
     
+    // One conditional UPDATE: 404 if the id is unknown, 412 if the body's version is stale.
+    // Responds with the stored row, new version included, also when the body had no version.
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
-        return productService.getProductById(id)
-                .map(existingProduct -> {
-                    product.setId(id);
-                    return ResponseEntity.ok(productService.saveProduct(product));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        product.setId(id);
+        WriteOutcome outcome = productService.updateProduct(product);
+        return outcome == WriteOutcome.APPLIED ? ResponseEntity.ok(product) : failed(outcome);
+    }
+    
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchProduct(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        try {
+            WriteOutcome outcome = productService.patchProduct(id, patch);
+            return outcome == WriteOutcome.APPLIED ? ResponseEntity.noContent().build() : failed(outcome);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
-        return productService.getProductById(id)
-                .map(product -> {
-                    productService.deleteProduct(id);
-                    return ResponseEntity.ok().<Void>build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Void> deleteProduct(@PathVariable Long id, @RequestParam(required = false) Long version) {
+        WriteOutcome outcome = productService.deleteProduct(id, version);
+        return outcome == WriteOutcome.APPLIED ? ResponseEntity.ok().build() : failed(outcome);
+    }
+    
+    private static <T> ResponseEntity<T> failed(WriteOutcome outcome) {
+        return ResponseEntity.status(outcome == WriteOutcome.NOT_FOUND ? HttpStatus.NOT_FOUND : HttpStatus.PRECONDITION_FAILED).build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.aadhya.eduverse.aadhya.controller;
+
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import com.aadhya.eduverse.aadhya.service.ReactiveCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read-only catalog API returning Mono/Flux. Lists stream as NDJSON or SSE
+// depending on the Accept header, one element written per downstream request.
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveCatalogController {
+    
+    private final ReactiveCatalogService reactiveCatalogService;
+    
+    @Autowired
+    public ReactiveCatalogController(ReactiveCatalogService reactiveCatalogService) {
+        this.reactiveCatalogService = reactiveCatalogService;
+    }
+    
+    @GetMapping(value = "/products", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<?> streamProducts(@RequestParam(defaultValue = "summary") String view) {
+        return "full".equalsIgnoreCase(view)
+                ? reactiveCatalogService.streamProducts()
+                : reactiveCatalogService.streamProductSummaries();
+    }
+    
+    @GetMapping("/products/{id}")
+    public Mono<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
+        return reactiveCatalogService.getProductById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping(value = "/services", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<?> streamServices(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "summary") String view) {
+        if (category != null) {
+            return reactiveCatalogService.streamServicesByCategory(category);
+        }
+        return "full".equalsIgnoreCase(view)
+                ? reactiveCatalogService.streamServices()
+                : reactiveCatalogService.streamServiceSummaries();
+    }
+    
+    @GetMapping("/services/{id}")
+    public Mono<ResponseEntity<Service>> getServiceById(@PathVariable Long id) {
+        return reactiveCatalogService.getServiceById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/company")
+    public Mono<ResponseEntity<CompanyInfoDTO>> getCompanyInfo() {
+        return reactiveCatalogService.getCompanyInfo()
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/home")
+    public Mono<ResponseEntity<byte[]>> getHomeData() {
+        return reactiveCatalogService.getHomeSnapshot()
+                .map(snapshot -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(snapshot.getBody()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.aadhya.eduverse.aadhya.controller;
+
+import com.aadhya.eduverse.aadhya.dto.SearchHit;
+import com.aadhya.eduverse.aadhya.service.CatalogSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+    
+    private final CatalogSearchService catalogSearchService;
+    
+    @Autowired
+    public SearchController(CatalogSearchService catalogSearchService) {
+        this.catalogSearchService = catalogSearchService;
+    }
+    
+    // prefix=true treats the last word as typed-so-far (typeahead); type is product or service
+    @GetMapping
+    public ResponseEntity<List<SearchHit>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "true") boolean prefix) {
+        try {
+            return ResponseEntity.ok(catalogSearchService.search(query, type, limit, prefix));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,21 +1,26 @@
 package com.aadhya.eduverse.aadhya.controller;
 
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
 import com.aadhya.eduverse.aadhya.model.Service;
 import com.aadhya.eduverse.aadhya.service.ServiceService;
+import com.aadhya.eduverse.aadhya.service.WriteOutcome;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/services")
@@ -33,11 +38,28 @@ public class ServiceController {
         return ResponseEntity.ok(serviceService.getAllServices());
     }
     
+    // Keyset pagination: pass the returned nextCursor as "after"; view=full returns whole entities
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<?>> getServicePage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "summary") String view) {
+        CursorPage<?> page = "full".equalsIgnoreCase(view)
+                ? serviceService.getServicePage(after, size)
+                : serviceService.getServiceSummaries(after, size);
+        return ResponseEntity.ok(page);
+    }
+    
     @GetMapping("/category/{category}")
     public ResponseEntity<List<Service>> getServicesByCategory(@PathVariable String category) {
         return ResponseEntity.ok(serviceService.getServicesByCategory(category));
     }
     
+    @GetMapping("/categories")
+    public ResponseEntity<List<String>> getCategories() {
+        return ResponseEntity.ok(serviceService.getCategories());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Service> getServiceById(@PathVariable Long id) {
         return serviceService.getServiceById(id)
@@ -47,28 +69,37 @@ public class ServiceController {
     
     @PostMapping
     public ResponseEntity<Service> createService(@RequestBody Service service) {
+        service.setId(null);
+        service.setVersion(null);
         Service savedService = serviceService.saveService(service);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedService);
     }
     
+    // Responds with the stored row, new version included
     @PutMapping("/{id}")
     public ResponseEntity<Service> updateService(@PathVariable Long id, @RequestBody Service service) {
-        return serviceService.getServiceById(id)
-                .map(existingService -> {
-                    service.setId(id);
-                    Service updatedService = serviceService.saveService(service);
-                    return ResponseEntity.ok(updatedService);
-                })
-                .orElse(ResponseEntity.notFound().build());
+        service.setId(id);
+        WriteOutcome outcome = serviceService.updateService(service);
+        return outcome == WriteOutcome.APPLIED ? ResponseEntity.ok(service) : failed(outcome);
+    }
+    
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchService(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        try {
+            WriteOutcome outcome = serviceService.patchService(id, patch);
+            return outcome == WriteOutcome.APPLIED ? ResponseEntity.noContent().build() : failed(outcome);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteService(@PathVariable Long id) {
-        return serviceService.getServiceById(id)
-                .map(service -> {
-                    serviceService.deleteService(id);
-                    return new ResponseEntity<Void>(HttpStatus.OK);
-                })
-                .orElse(new ResponseEntity<Void>(HttpStatus.NOT_FOUND));
+    public ResponseEntity<Void> deleteService(@PathVariable Long id, @RequestParam(required = false) Long version) {
+        WriteOutcome outcome = serviceService.deleteService(id, version);
+        return outcome == WriteOutcome.APPLIED ? new ResponseEntity<Void>(HttpStatus.OK) : failed(outcome);
+    }
+    
+    private static <T> ResponseEntity<T> failed(WriteOutcome outcome) {
+        return new ResponseEntity<T>(outcome == WriteOutcome.NOT_FOUND ? HttpStatus.NOT_FOUND : HttpStatus.PRECONDITION_FAILED);
     }
 }
\ No newline at end of file
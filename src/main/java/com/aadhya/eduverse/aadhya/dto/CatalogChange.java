@@ -0,0 +1,46 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+
+import java.time.Instant;
+
+// One /api/changes event. entityId is null for RELOADED; entityType is also null when the
+// client must reload the whole catalog (its resume point is no longer buffered).
+public class CatalogChange {
+    
+    private final long sequence;
+    private final CatalogEntityType entityType;
+    private final CatalogChangeType changeType;
+    private final Long entityId;
+    private final Instant timestamp;
+    
+    public CatalogChange(long sequence, CatalogEntityType entityType, CatalogChangeType changeType, Long entityId,
+                         Instant timestamp) {
+        this.sequence = sequence;
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.timestamp = timestamp;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public CatalogEntityType getEntityType() {
+        return entityType;
+    }
+    
+    public CatalogChangeType getChangeType() {
+        return changeType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+}
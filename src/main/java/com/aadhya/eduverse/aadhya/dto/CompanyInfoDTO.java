@@ -0,0 +1,72 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+import com.aadhya.eduverse.aadhya.model.CompanyInfo;
+
+// Read-only view of the company info row; immutable, so CompanyInfoService hands the same instance to every caller
+public class CompanyInfoDTO {
+    
+    private final Long id;
+    private final String name;
+    private final String tagline;
+    private final String about;
+    private final String email;
+    private final String phone;
+    private final String address;
+    private final String logoUrl;
+    private final String websiteUrl;
+    
+    public CompanyInfoDTO(Long id, String name, String tagline, String about, String email,
+                          String phone, String address, String logoUrl, String websiteUrl) {
+        this.id = id;
+        this.name = name;
+        this.tagline = tagline;
+        this.about = about;
+        this.email = email;
+        this.phone = phone;
+        this.address = address;
+        this.logoUrl = logoUrl;
+        this.websiteUrl = websiteUrl;
+    }
+    
+    // Reads every column, the lazy about LOB included, so call it while the row is still attached
+    public static CompanyInfoDTO of(CompanyInfo info) {
+        return new CompanyInfoDTO(info.getId(), info.getName(), info.getTagline(), info.getAbout(), info.getEmail(),
+                info.getPhone(), info.getAddress(), info.getLogoUrl(), info.getWebsiteUrl());
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getTagline() {
+        return tagline;
+    }
+    
+    public String getAbout() {
+        return about;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public String getLogoUrl() {
+        return logoUrl;
+    }
+    
+    public String getWebsiteUrl() {
+        return websiteUrl;
+    }
+}
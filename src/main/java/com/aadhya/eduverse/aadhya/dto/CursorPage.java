@@ -0,0 +1,37 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset-paginated list; pass nextCursor as "after" to fetch the next page
+public class CursorPage<T> {
+    
+    private final List<T> items;
+    private final Long nextCursor;
+    
+    public CursorPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Expects up to size + 1 rows ordered by id; the extra row only signals that more exist
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, idOf.apply(items.get(size - 1)));
+    }
+    
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+// Immutable, pre-serialized view of the /api/home payload
+public final class HomeSnapshot {
+    
+    private final long version;
+    private final byte[] body;
+    
+    public HomeSnapshot(long version, byte[] body) {
+        this.version = version;
+        this.body = body;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    // Shared across requests, callers must not modify the returned array
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,33 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+// List-card projection of Product, selected without the description LOB
+public class ProductSummary {
+    
+    private final Long id;
+    private final String name;
+    private final String shortDescription;
+    private final String imageUrl;
+    
+    public ProductSummary(Long id, String name, String shortDescription, String imageUrl) {
+        this.id = id;
+        this.name = name;
+        this.shortDescription = shortDescription;
+        this.imageUrl = imageUrl;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getShortDescription() {
+        return shortDescription;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+}
@@ -0,0 +1,64 @@
+package com.aadhya.eduverse.aadhya.dto;
+
+// One /api/search result; the highlighted fields are HTML-escaped with matches in <em>
+public class SearchHit {
+    
+    private final String type;
+    private final Long id;
+    private final String name;
+    private final String category;
+    private final String imageUrl;
+    private final double score;
+    private final String nameHighlight;
+    private final String shortDescriptionHighlight;
+    private final String descriptionSnippet;
+    
+    public SearchHit(String type, Long id, String name, String category, String imageUrl, double score,
+                     String nameHighlight, String shortDescriptionHighlight, String descriptionSnippet) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.imageUrl = imageUrl;
+        this.score = score;
+        this.nameHighlight = nameHighlight;
+        this.shortDescriptionHighlight = shortDescriptionHighlight;
+        this.descriptionSnippet = descriptionSnippet;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+    
+    public String getNameHighlight() {
+        return nameHighlight;
+    }
+    
+    public String getShortDescriptionHighlight() {
+        return shortDescriptionHighlight;
+    }
+    
+    public String getDescriptionSnippet() {
+        return descriptionSnippet;
+    }
+}
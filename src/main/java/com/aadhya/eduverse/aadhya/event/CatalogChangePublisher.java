@@ -0,0 +1,72 @@
+package com.aadhya.eduverse.aadhya.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Single entry point for catalog write notifications; also tracks which catalog_version of each
+// type the caches reflect, as a tag that is the same on every node and across restarts (used for ETags)
+@Component
+public class CatalogChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<CatalogEntityType, Long> versions = new EnumMap<>(CatalogEntityType.class); // guarded by lock
+    // Committed writes not yet published, i.e. caches may not reflect them; guarded by lock
+    private final Map<CatalogEntityType, Integer> unpublished = new EnumMap<>(CatalogEntityType.class);
+    private volatile String tag;
+
+    @Autowired
+    public CatalogChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void publish(CatalogEntityType entityType, CatalogChangeType changeType, Long entityId) {
+        try {
+            eventPublisher.publishEvent(new CatalogChangedEvent(entityType, changeType, entityId));
+        } finally {
+            // Listeners run synchronously; settling afterwards means anyone who
+            // observes the new tag is also served the refreshed caches
+            lock.lock();
+            try {
+                unpublished.computeIfPresent(entityType, (type, count) -> count > 1 ? count - 1 : null);
+                updateTag();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // A write reached catalog_version (here or on another node); must be followed by publish()
+    public void committed(CatalogEntityType entityType, long version) {
+        lock.lock();
+        try {
+            versions.merge(entityType, version, Math::max);
+            unpublished.merge(entityType, 1, Integer::sum);
+            updateTag();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Null until every type's version is known, and while a committed write is still being applied
+    public String currentTag() {
+        return tag;
+    }
+
+    private void updateTag() {
+        if (!unpublished.isEmpty() || versions.size() < CatalogEntityType.values().length) {
+            tag = null;
+            return;
+        }
+        StringJoiner joiner = new StringJoiner("-", "c", "");
+        versions.values().forEach(version -> joiner.add(Long.toString(version)));
+        tag = joiner.toString();
+    }
+}
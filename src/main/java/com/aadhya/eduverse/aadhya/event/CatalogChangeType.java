@@ -0,0 +1,9 @@
+package com.aadhya.eduverse.aadhya.event;
+
+public enum CatalogChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    // Bulk write without an entity id: anything of the type may have changed
+    RELOADED
+}
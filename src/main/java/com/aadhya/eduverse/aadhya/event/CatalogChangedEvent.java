@@ -0,0 +1,36 @@
+package com.aadhya.eduverse.aadhya.event;
+
+// Published by the catalog services after every successful write
+public class CatalogChangedEvent {
+    
+    private final CatalogEntityType entityType;
+    private final CatalogChangeType changeType;
+    private final Long entityId;
+    
+    public CatalogChangedEvent(CatalogEntityType entityType, CatalogChangeType changeType, Long entityId) {
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+    }
+    
+    public CatalogEntityType getEntityType() {
+        return entityType;
+    }
+    
+    public CatalogChangeType getChangeType() {
+        return changeType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    @Override
+    public String toString() {
+        return "CatalogChangedEvent{" +
+                "entityType=" + entityType +
+                ", changeType=" + changeType +
+                ", entityId=" + entityId +
+                '}';
+    }
+}
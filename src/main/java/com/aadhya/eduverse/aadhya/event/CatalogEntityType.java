@@ -0,0 +1,7 @@
+package com.aadhya.eduverse.aadhya.event;
+
+public enum CatalogEntityType {
+    PRODUCT,
+    SERVICE,
+    COMPANY_INFO
+}
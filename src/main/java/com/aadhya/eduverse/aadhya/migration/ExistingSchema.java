@@ -0,0 +1,39 @@
+package com.aadhya.eduverse.aadhya.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+// Migrations after V1 must also apply to databases that ddl-auto=update kept in step with the
+// entities, which are baselined at V1 but may already have everything a later script adds
+final class ExistingSchema {
+
+    private ExistingSchema() {
+    }
+
+    static boolean hasTable(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(),
+                identifier(metaData, table), new String[] {"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                identifier(metaData, table), identifier(metaData, column))) {
+            return columns.next();
+        }
+    }
+
+    // Unquoted names as the database stores them (upper case on H2, as written on SQL Server)
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return name.toUpperCase(Locale.ROOT);
+        }
+        return metaData.storesLowerCaseIdentifiers() ? name.toLowerCase(Locale.ROOT) : name;
+    }
+}
@@ -0,0 +1,26 @@
+package com.aadhya.eduverse.aadhya.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+// Optimistic locking for product and service writes (@Version columns)
+public class V3__catalog_row_versions extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        for (String table : List.of("product", "service")) {
+            if (ExistingSchema.hasColumn(connection, table, "version")) {
+                continue;
+            }
+            try (Statement statement = connection.createStatement()) {
+                // Existing rows start at version 0, like @ColumnDefault("0") on the entities
+                statement.execute("ALTER TABLE " + table + " ADD version BIGINT DEFAULT 0 NOT NULL");
+            }
+        }
+    }
+}
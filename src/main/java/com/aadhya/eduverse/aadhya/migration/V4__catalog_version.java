@@ -0,0 +1,38 @@
+package com.aadhya.eduverse.aadhya.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+// One row per catalog entity type, bumped by every write; nodes poll it to invalidate their caches
+public class V4__catalog_version extends BaseJavaMigration {
+
+    private static final List<String> ENTITY_TYPES = List.of("PRODUCT", "SERVICE", "COMPANY_INFO");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!ExistingSchema.hasTable(connection, "catalog_version")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE catalog_version ("
+                        + "entity_type VARCHAR(32) NOT NULL, "
+                        + "version BIGINT NOT NULL, "
+                        + "CONSTRAINT pk_catalog_version PRIMARY KEY (entity_type))");
+            }
+        }
+        // A table created by ddl-auto may hold some of the rows already, with versions to keep
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO catalog_version (entity_type, version) SELECT ?, 0 "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM catalog_version WHERE entity_type = ?)")) {
+            for (String type : ENTITY_TYPES) {
+                insert.setString(1, type);
+                insert.setString(2, type);
+                insert.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.aadhya.eduverse.aadhya.model;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Mapped so ddl-auto creates the table; CatalogVersions reads and bumps it with plain SQL
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogVersion {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private CatalogEntityType entityType;
+    
+    @Column(nullable = false)
+    private long version;
+}
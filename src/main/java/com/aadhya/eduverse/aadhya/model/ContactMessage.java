@@ -0,0 +1,55 @@
+package com.aadhya.eduverse.aadhya.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Outbox row for a contact form submission awaiting SMTP delivery
+@Entity
+@Table(indexes = @Index(name = "idx_contact_message_due", columnList = "status, nextAttemptAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessage {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private String name;
+    
+    private String email;
+    
+    private String subject;
+    
+    @Column(length = 1000)
+    private String message;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private ContactMessageStatus status;
+    
+    private int attempts;
+    
+    private Instant nextAttemptAt;
+    
+    private Instant claimedAt;
+    
+    private Instant createdAt;
+    
+    private Instant sentAt;
+    
+    @Column(length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,8 @@
+package com.aadhya.eduverse.aadhya.model;
+
+public enum ContactMessageStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD // attempts exhausted, kept as the dead-letter store
+}
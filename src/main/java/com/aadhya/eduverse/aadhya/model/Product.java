@@ -1,13 +1,20 @@
 package com.aadhya.eduverse.aadhya.model;
 
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Data
@@ -23,10 +30,20 @@ public class Product {
     
     private String shortDescription;
     
+    // Loaded on first access (bytecode enhancement), so list queries skip the LOB
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
     
     private String imageUrl;
     
     private String productUrl;
+    
+    // Bumped by every update; clients send it back so stale writes fail instead of overwriting
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.aadhya.eduverse.aadhya.model;
 
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_service_category", columnList = "category"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +36,15 @@ public class Service {
     private String shortDescription;
     
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
     
     private String imageUrl;
+    
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 }
\ No newline at end of file
@@ -1,10 +1,28 @@
 package com.aadhya.eduverse.aadhya.repository;
 
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
 import com.aadhya.eduverse.aadhya.model.CompanyInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface CompanyInfoRepository extends JpaRepository<CompanyInfo, Long> {
-    // Usually there will be only one company info record
+    // Company info is a singleton: the row with the lowest id, later rows are ignored.
+    // Only used to find that id; CompanyInfoService looks the row up by id afterwards.
+    @Transactional(readOnly = true)
+    Optional<CompanyInfo> findFirstByOrderByIdAsc();
+    
+    // Includes the lazy about LOB, which every company info response shows
+    @Transactional(readOnly = true)
+    default Optional<CompanyInfoDTO> findViewById(Long id) {
+        return findById(id).map(CompanyInfoDTO::of);
+    }
+    
+    @Transactional(readOnly = true)
+    default Optional<CompanyInfoDTO> findFirstView() {
+        return findFirstByOrderByIdAsc().map(CompanyInfoDTO::of);
+    }
 }
\ No newline at end of file
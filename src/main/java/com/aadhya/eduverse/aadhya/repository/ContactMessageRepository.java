@@ -0,0 +1,42 @@
+package com.aadhya.eduverse.aadhya.repository;
+
+import com.aadhya.eduverse.aadhya.model.ContactMessage;
+import com.aadhya.eduverse.aadhya.model.ContactMessageStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
+    
+    List<ContactMessage> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            ContactMessageStatus status, Instant now, Limit limit);
+    
+    long countByStatus(ContactMessageStatus status);
+    
+    // Conditional claim so only one worker (on any node) delivers a given message
+    @Transactional
+    @Modifying
+    @Query("update ContactMessage m set m.status = :target, m.claimedAt = :now " +
+            "where m.id = :id and m.status = :expected")
+    int transition(@Param("id") Long id,
+                   @Param("expected") ContactMessageStatus expected,
+                   @Param("target") ContactMessageStatus target,
+                   @Param("now") Instant now);
+    
+    // Returns messages whose worker died mid-send to the queue
+    @Transactional
+    @Modifying
+    @Query("update ContactMessage m set m.status = :target " +
+            "where m.status = :expected and m.claimedAt < :cutoff")
+    int releaseExpiredClaims(@Param("expected") ContactMessageStatus expected,
+                             @Param("target") ContactMessageStatus target,
+                             @Param("cutoff") Instant cutoff);
+}
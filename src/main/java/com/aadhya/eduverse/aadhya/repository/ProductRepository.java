@@ -1,10 +1,26 @@
 package com.aadhya.eduverse.aadhya.repository;
 
 import com.aadhya.eduverse.aadhya.model.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
-    // Custom query methods can be added here if needed
-}
\ No newline at end of file
+    
+    // Keyset page ordered by id; type is Product or a DTO projection such as ProductSummary
+    @Transactional(readOnly = true)
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+    
+    // Detail lookup: fetches the lazy description LOB while the session is still open
+    @Transactional(readOnly = true)
+    default Optional<Product> findDetailById(Long id) {
+        Optional<Product> product = findById(id);
+        product.ifPresent(Product::getDescription);
+        return product;
+    }
+}
@@ -1,12 +1,24 @@
 package com.aadhya.eduverse.aadhya.repository;
 
 import com.aadhya.eduverse.aadhya.model.Service;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
-    List<Service> findByCategory(String category);
-}
\ No newline at end of file
+    // Keyset page ordered by id; type is Service or a DTO projection such as ServiceSummary
+    @Transactional(readOnly = true)
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+    
+    @Transactional(readOnly = true)
+    default Optional<Service> findDetailById(Long id) {
+        Optional<Service> service = findById(id);
+        service.ifPresent(Service::getDescription);
+        return service;
+    }
+}
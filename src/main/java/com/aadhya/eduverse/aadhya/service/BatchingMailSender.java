@@ -0,0 +1,277 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Collects outgoing mail for a short window and sends each batch over one
+// authenticated SMTP connection that is kept open between batches.
+@Component
+public class BatchingMailSender {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingMailSender.class);
+
+    private final JavaMailSender mailSender;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final long keepAliveNanos;
+    private final Duration sendTimeout;
+    private final DistributionSummary batchSizes;
+
+    private final BlockingQueue<PendingMessage> queue = new LinkedBlockingQueue<>();
+    private final Thread dispatcher;
+    // Submitters hold the read lock while enqueueing, shutdown takes the write lock to stop
+    // accepting work: nothing can be added after the dispatcher has seen running == false
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    // Only touched by the dispatcher thread
+    private Transport transport;
+    private long transportLastUsed;
+
+    @Autowired
+    public BatchingMailSender(
+            JavaMailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.batch.max-size:20}") int maxBatchSize,
+            @Value("${app.mail.batch.window:200ms}") Duration window,
+            @Value("${app.mail.batch.keep-alive:30s}") Duration keepAlive,
+            @Value("${app.mail.batch.send-timeout:2m}") Duration sendTimeout) {
+        this.mailSender = mailSender;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.keepAliveNanos = keepAlive.toNanos();
+        this.sendTimeout = sendTimeout;
+
+        Gauge.builder("mail.batch.queue.depth", queue, BlockingQueue::size)
+                .description("Messages waiting for the next SMTP batch")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("mail.batch.size")
+                .description("Messages sent per SMTP batch")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "mail-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher.start();
+    }
+
+    public CompletableFuture<Void> submit(SimpleMailMessage message) {
+        PendingMessage pending = new PendingMessage(message);
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                pending.result.completeExceptionally(new MailSendException("Mail sender is shutting down"));
+            } else {
+                queue.add(pending);
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        return pending.result;
+    }
+
+    // Blocks until the batch containing this message has been sent, or the send timeout passes
+    public void send(SimpleMailMessage message) throws MailException {
+        CompletableFuture<Void> result = submit(message);
+        try {
+            result.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MailException mailException) {
+                throw mailException;
+            }
+            throw new MailSendException("Failed to send mail", e.getCause());
+        } catch (TimeoutException e) {
+            throw new MailSendException("Timed out after " + sendTimeout + " waiting for the mail batch", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for the mail batch", e);
+        }
+    }
+
+    private void dispatchLoop() {
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(keepAliveNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    closeTransport(); // idle for a whole keep-alive period
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                running = false;
+                if (!batch.isEmpty()) {
+                    sendBatch(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure in mail batch dispatcher", e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        closeTransport();
+        failLeftovers();
+    }
+
+    private void failLeftovers() {
+        PendingMessage leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result.completeExceptionally(new MailSendException("Mail sender is shutting down"));
+        }
+    }
+
+    private void sendBatch(List<PendingMessage> batch) {
+        batchSizes.record(batch.size());
+        if (!(mailSender instanceof JavaMailSenderImpl senderImpl)) {
+            // Stub or custom senders: no transport to reuse, send one by one
+            for (PendingMessage pending : batch) {
+                try {
+                    mailSender.send(pending.message);
+                    pending.result.complete(null);
+                } catch (MailException e) {
+                    pending.result.completeExceptionally(e);
+                }
+            }
+            return;
+        }
+
+        log.debug("Sending mail batch of {} message(s)", batch.size());
+        for (PendingMessage pending : batch) {
+            try {
+                MimeMessage mimeMessage = toMimeMessage(senderImpl, pending.message);
+                try {
+                    sendOverTransport(senderImpl, mimeMessage);
+                } catch (MessagingException e) {
+                    if (e instanceof AuthenticationFailedException || transport == null || transport.isConnected()) {
+                        throw e;
+                    }
+                    // Server dropped the kept-alive connection, retry once on a fresh one
+                    closeTransport();
+                    sendOverTransport(senderImpl, mimeMessage);
+                }
+                pending.result.complete(null);
+            } catch (AuthenticationFailedException e) {
+                closeTransport();
+                pending.result.completeExceptionally(new MailAuthenticationException(e));
+            } catch (MessagingException e) {
+                pending.result.completeExceptionally(new MailSendException("Failed to send mail", e));
+            }
+        }
+    }
+
+    private void sendOverTransport(JavaMailSenderImpl senderImpl, MimeMessage mimeMessage) throws MessagingException {
+        Transport current = connectedTransport(senderImpl);
+        current.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+        transportLastUsed = System.nanoTime();
+    }
+
+    private Transport connectedTransport(JavaMailSenderImpl senderImpl) throws MessagingException {
+        if (transport != null && System.nanoTime() - transportLastUsed > keepAliveNanos) {
+            closeTransport();
+        }
+        if (transport == null) {
+            String protocol = senderImpl.getProtocol();
+            if (protocol == null) {
+                protocol = senderImpl.getSession().getProperty("mail.transport.protocol");
+            }
+            Transport opened = senderImpl.getSession().getTransport(protocol != null ? protocol : "smtp");
+            opened.connect(senderImpl.getHost(), senderImpl.getPort(), senderImpl.getUsername(), senderImpl.getPassword());
+            transport = opened;
+            transportLastUsed = System.nanoTime();
+        }
+        return transport;
+    }
+
+    private void closeTransport() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport", e);
+        }
+        transport = null;
+    }
+
+    private static MimeMessage toMimeMessage(JavaMailSenderImpl senderImpl, SimpleMailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = senderImpl.createMimeMessage();
+        message.copyTo(new MimeMailMessage(mimeMessage));
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Stop accepting work and let the dispatcher flush what is already queued
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        if (dispatcher.isAlive()) {
+            return; // still flushing; it fails whatever is left once it stops
+        }
+        failLeftovers();
+    }
+
+    private static final class PendingMessage {
+        private final SimpleMailMessage message;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingMessage(SimpleMailMessage message) {
+            this.message = message;
+        }
+    }
+}
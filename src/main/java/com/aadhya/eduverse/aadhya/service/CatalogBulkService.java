@@ -0,0 +1,244 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+// Streaming NDJSON/CSV import and export of the product and service tables. Records are parsed
+// one at a time and inserted with JDBC batches: IDENTITY keys stop Hibernate from batching, but
+// plain JDBC batches never need the generated key back.
+@Service
+public class CatalogBulkService {
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format of(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public enum Catalog {
+        PRODUCTS("product", CatalogEntityType.PRODUCT, List.of(
+                new Field("name", "name", 255, true),
+                new Field("shortDescription", "short_description", 255, false),
+                new Field("description", "description", 0, false),
+                new Field("imageUrl", "image_url", 255, false),
+                new Field("productUrl", "product_url", 255, false))),
+        SERVICES("service", CatalogEntityType.SERVICE, List.of(
+                new Field("name", "name", 255, true),
+                new Field("category", "category", 255, true),
+                new Field("shortDescription", "short_description", 255, false),
+                new Field("description", "description", 0, false),
+                new Field("imageUrl", "image_url", 255, false)));
+
+        private final String table;
+        private final CatalogEntityType entityType;
+        private final List<Field> fields;
+
+        Catalog(String table, CatalogEntityType entityType, List<Field> fields) {
+            this.table = table;
+            this.entityType = entityType;
+            this.fields = fields;
+        }
+
+        public static Catalog of(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        private String insertSql() {
+            return "INSERT INTO " + table + " ("
+                    + fields.stream().map(Field::column).collect(Collectors.joining(", "))
+                    + ") VALUES (" + fields.stream().map(field -> "?").collect(Collectors.joining(", ")) + ")";
+        }
+
+        private String selectSql() {
+            return "SELECT id, " + fields.stream().map(Field::column).collect(Collectors.joining(", "))
+                    + " FROM " + table + " ORDER BY id";
+        }
+
+        private Object[] toRow(Map<String, Object> record, long line) {
+            Object[] row = new Object[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                Object value = record.get(field.name());
+                String text = value == null || "".equals(value) ? null : value.toString();
+                if (text == null && field.required()) {
+                    throw new InvalidRecordException(line, field.name() + " is required");
+                }
+                if (text != null && field.maxLength() > 0 && text.length() > field.maxLength()) {
+                    throw new InvalidRecordException(line, field.name() + " exceeds " + field.maxLength() + " characters");
+                }
+                row[i] = text;
+            }
+            return row;
+        }
+    }
+
+    // maxLength 0 for LOB columns
+    private record Field(String name, String column, int maxLength, boolean required) {
+    }
+
+    public static class InvalidRecordException extends IllegalArgumentException {
+
+        private final long line;
+
+        public InvalidRecordException(long line, String message) {
+            super("Line " + line + ": " + message);
+            this.line = line;
+        }
+
+        public long getLine() {
+            return line;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final ProductService productService;
+    private final ServiceService serviceService;
+    private final CatalogVersions catalogVersions;
+    private final int batchSize;
+
+    @Autowired
+    public CatalogBulkService(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            ProductService productService,
+            ServiceService serviceService,
+            CatalogVersions catalogVersions,
+            @Value("${app.catalog.bulk.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.productService = productService;
+        this.serviceService = serviceService;
+        this.catalogVersions = catalogVersions;
+        this.batchSize = batchSize;
+
+        // Export reads the whole table through one cursor instead of materialising it
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(batchSize);
+    }
+
+    // All or nothing: one transaction, so a bad record leaves the catalog untouched.
+    // progress receives the running count after every batch.
+    public long importCatalog(Catalog catalog, Format format, boolean replace, InputStream in, LongConsumer progress)
+            throws IOException {
+        ObjectReader reader = format == Format.CSV
+                ? csvMapper.readerFor(Map.class).with(CsvSchema.emptySchema().withHeader())
+                : objectMapper.readerFor(Map.class);
+
+        long imported;
+        try (MappingIterator<Map<String, Object>> records = reader.readValues(in)) {
+            imported = transactionTemplate.execute(status -> insertAll(catalog, records, replace, progress));
+        }
+        if (imported > 0 || replace) {
+            invalidate(catalog);
+        }
+        return imported;
+    }
+
+    private long insertAll(Catalog catalog, MappingIterator<Map<String, Object>> records, boolean replace,
+                           LongConsumer progress) {
+        if (replace) {
+            jdbcTemplate.update("DELETE FROM " + catalog.table);
+        }
+        String sql = catalog.insertSql();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        while (records.hasNext()) {
+            Map<String, Object> record = records.next();
+            batch.add(catalog.toRow(record, records.getCurrentLocation().getLineNr()));
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                imported += batch.size();
+                batch.clear();
+                progress.accept(imported);
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            imported += batch.size();
+            progress.accept(imported);
+        }
+        if (imported > 0 || replace) {
+            catalogVersions.bump(catalog.entityType);
+        }
+        return imported;
+    }
+
+    public void exportCatalog(Catalog catalog, Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            CsvSchema.Builder schema = CsvSchema.builder().addColumn("id");
+            catalog.fields.forEach(field -> schema.addColumn(field.name()));
+            try (SequenceWriter writer = csvMapper.writer(schema.build().withHeader()).writeValues(out)) {
+                streamRows(catalog, row -> writer.write(row));
+            }
+        } else {
+            ObjectWriter writer = objectMapper.writer();
+            streamRows(catalog, row -> {
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+            });
+            out.flush();
+        }
+    }
+
+    private void streamRows(Catalog catalog, RowWriter rowWriter) {
+        streamingJdbcTemplate.query(catalog.selectSql(), (RowCallbackHandler) rs -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", rs.getLong("id"));
+            for (Field field : catalog.fields) {
+                row.put(field.name(), rs.getString(field.column()));
+            }
+            try {
+                rowWriter.write(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void invalidate(Catalog catalog) {
+        if (catalog == Catalog.PRODUCTS) {
+            productService.invalidateAll();
+        } else {
+            serviceService.invalidateAll();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Map<String, Object> row) throws IOException;
+    }
+}
@@ -0,0 +1,160 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.CatalogChange;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Numbers catalog changes and pushes them to /api/changes subscribers. The latest changes stay in a
+// ring buffer so a reconnecting client resumes after its last sequence. A subscriber holds no thread
+// and no queue of its own: it is sent changes from the ring as it requests them, so a resume
+// replays straight from the ring. One that falls more than maxPending changes behind the ones
+// published since it subscribed is dropped and resumes on reconnect.
+@Component
+public class CatalogChangeFeed {
+    
+    private final CatalogChange[] ring;
+    private final int maxPending;
+    private final String instanceTag = Long.toHexString(System.currentTimeMillis());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Appends, replays and subscriber registration are serialized so a resume has no gap
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastSequence; // guarded by lock
+    
+    @Autowired
+    public CatalogChangeFeed(
+            @Value("${app.catalog.changes.buffer-size:1024}") int bufferSize,
+            @Value("${app.catalog.changes.max-pending:256}") int maxPending) {
+        this.ring = new CatalogChange[bufferSize];
+        this.maxPending = maxPending;
+    }
+    
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        lock.lock();
+        try {
+            CatalogChange change = new CatalogChange(++lastSequence, event.getEntityType(), event.getChangeType(),
+                    event.getEntityId(), Instant.now());
+            ring[(int) (change.getSequence() % ring.length)] = change;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.drain();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // after: last sequence the client has seen, null for new changes only. A resume point that has
+    // left the ring (or is unknown, e.g. from before a restart) yields one catalog-wide RELOADED first.
+    public Flux<CatalogChange> changesAfter(Long after) {
+        return Flux.create(sink -> {
+            Subscriber subscriber;
+            lock.lock();
+            try {
+                subscriber = new Subscriber(sink, lastSequence + 1);
+                if (after != null) {
+                    subscriber.resume(after);
+                }
+                subscribers.add(subscriber);
+            } finally {
+                lock.unlock();
+            }
+            sink.onDispose(() -> subscribers.remove(subscriber));
+            sink.onRequest(n -> {
+                lock.lock();
+                try {
+                    subscriber.drain();
+                } finally {
+                    lock.unlock();
+                }
+            });
+        });
+    }
+    
+    // SSE event ids carry an instance tag: sequences start over on restart
+    public String eventId(CatalogChange change) {
+        return instanceTag + "-" + change.getSequence();
+    }
+    
+    // Sequence of a Last-Event-ID issued by this instance, -1 for any other
+    public long sequenceOf(String eventId) {
+        String prefix = instanceTag + "-";
+        if (eventId == null || !eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    // All methods are called with lock held
+    private final class Subscriber {
+        
+        private final FluxSink<CatalogChange> sink;
+        // First sequence published after subscribing; only those count against maxPending
+        private final long liveFrom;
+        private long next;
+        private boolean reload;
+        
+        Subscriber(FluxSink<CatalogChange> sink, long liveFrom) {
+            this.sink = sink;
+            this.liveFrom = liveFrom;
+            this.next = liveFrom;
+        }
+        
+        void resume(long after) {
+            if (after < oldestInRing() - 1 || after > lastSequence) {
+                reload = true;
+            } else {
+                next = after + 1;
+            }
+        }
+        
+        void drain() {
+            if (sink.isCancelled()) {
+                return;
+            }
+            if (lastSequence - Math.max(next, liveFrom) + 1 > maxPending) {
+                subscribers.remove(this);
+                sink.error(Exceptions.failWithOverflow("Change feed subscriber fell more than " + maxPending + " changes behind"));
+                return;
+            }
+            while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                if (!reload && next < oldestInRing()) {
+                    // Overwritten in the ring before this subscriber caught up
+                    reload = true;
+                }
+                if (reload) {
+                    reload = false;
+                    next = lastSequence + 1;
+                    sink.next(new CatalogChange(lastSequence, null, CatalogChangeType.RELOADED, null, Instant.now()));
+                } else if (next <= lastSequence) {
+                    sink.next(ring[(int) (next++ % ring.length)]);
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+    
+    private long oldestInRing() {
+        return Math.max(1, lastSequence - ring.length + 1);
+    }
+    
+    int subscriberCount() {
+        return subscribers.size();
+    }
+}
@@ -0,0 +1,78 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Keeps this node's catalog caches coherent with writes made on other nodes: polls the
+// catalog_version rows and invalidates only the entity types whose counter moved.
+@Component
+@Lazy(false) // fast-start enables lazy initialization, which would leave the schedule unregistered
+public class CatalogCoherencePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogCoherencePoller.class);
+
+    private final CatalogVersions catalogVersions;
+    private final ProductService productService;
+    private final ServiceService serviceService;
+    private final CompanyInfoService companyInfoService;
+    // The scheduler starts before the runners (DataInitializer, SeedDataLoader), which write
+    // without going through the caches; a baseline taken then would cache an empty catalog
+    private volatile boolean started;
+
+    @Autowired
+    public CatalogCoherencePoller(
+            CatalogVersions catalogVersions,
+            ProductService productService,
+            ServiceService serviceService,
+            CompanyInfoService companyInfoService) {
+        this.catalogVersions = catalogVersions;
+        this.productService = productService;
+        this.serviceService = serviceService;
+        this.companyInfoService = companyInfoService;
+    }
+
+    // The first run records the versions and invalidates once, see CatalogVersions.advance
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.coherence.poll-interval-ms:1000}")
+    public void poll() {
+        if (!started) {
+            return;
+        }
+        Map<CatalogEntityType, Long> versions;
+        try {
+            versions = catalogVersions.read();
+        } catch (DataAccessException e) {
+            log.warn("Could not read catalog versions, caches may be stale: {}", e.getMessage());
+            return;
+        }
+        versions.forEach((type, version) -> {
+            if (catalogVersions.advance(type, version)) {
+                log.debug("{} changed on another node (version {}), invalidating", type, version);
+                invalidate(type);
+            }
+        });
+    }
+
+    private void invalidate(CatalogEntityType type) {
+        switch (type) {
+            case PRODUCT -> productService.invalidateAll();
+            case SERVICE -> serviceService.invalidateAll();
+            case COMPANY_INFO -> companyInfoService.invalidate();
+        }
+    }
+}
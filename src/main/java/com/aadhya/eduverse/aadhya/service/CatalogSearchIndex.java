@@ -0,0 +1,276 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Mutable inverted index over catalog text. Terms are kept sorted so a query's last word can be
+// expanded as a prefix (typeahead); all query words must match. Scores are idf-weighted, saturated
+// term frequencies with per-field boosts. Readers share a read lock, updates take the write lock.
+final class CatalogSearchIndex {
+    
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to", "with");
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float SHORT_DESCRIPTION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float SATURATION = 1.2f;
+    // Completions score a little below an exact word match
+    private static final float PREFIX_PENALTY = 0.8f;
+    // A short prefix keeps its most common completions, not the alphabetically first ones
+    private static final int MAX_PREFIX_EXPANSIONS = 128;
+    private static final int EXCERPT_LENGTH = 400;
+    private static final int SNIPPET_LENGTH = 160;
+    
+    record DocKey(CatalogEntityType type, long id) {
+    }
+    
+    record Document(DocKey key, String name, String category, String shortDescription, String excerpt, String imageUrl) {
+    }
+    
+    record Hit(Document document, double score, Set<String> matchedTerms) {
+    }
+    
+    private final Map<DocKey, Document> documents = new HashMap<>();
+    private final Map<DocKey, Set<String>> documentTerms = new HashMap<>();
+    private final TreeMap<String, Map<DocKey, Float>> postings = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // description is only tokenized; a short excerpt of it is kept for snippets
+    void put(DocKey key, String name, String category, String shortDescription, String description, String imageUrl) {
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, name, NAME_WEIGHT);
+        addTerms(weights, category, CATEGORY_WEIGHT);
+        addTerms(weights, shortDescription, SHORT_DESCRIPTION_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+        String excerpt = description == null || description.length() <= EXCERPT_LENGTH
+                ? description : description.substring(0, EXCERPT_LENGTH);
+        Document document = new Document(key, name, category, shortDescription, excerpt, imageUrl);
+        
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            documents.put(key, document);
+            documentTerms.put(key, Set.copyOf(weights.keySet()));
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void remove(DocKey key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void removeAll(CatalogEntityType type) {
+        lock.writeLock().lock();
+        try {
+            List<DocKey> keys = documents.keySet().stream().filter(key -> key.type() == type).toList();
+            keys.forEach(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    List<Hit> search(String query, CatalogEntityType type, int limit, boolean prefixLastTerm) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            Map<DocKey, Double> scores = null;
+            Map<DocKey, Set<String>> matched = new HashMap<>();
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = prefixLastTerm && i == terms.size() - 1;
+                Map<DocKey, Double> termScores = scoreTerm(terms.get(i), prefix, documentCount, matched);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // Every query word must match
+                    Map<DocKey, Double> current = termScores;
+                    scores.keySet().retainAll(current.keySet());
+                    scores.replaceAll((key, score) -> score + current.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            
+            PriorityQueue<Map.Entry<DocKey, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<DocKey, Double> entry : scores.entrySet()) {
+                if (type != null && entry.getKey().type() != type) {
+                    continue;
+                }
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<DocKey, Double> entry = top.poll();
+                hits.add(new Hit(documents.get(entry.getKey()), entry.getValue(), matched.get(entry.getKey())));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Map<DocKey, Double> scoreTerm(String term, boolean prefix, int documentCount,
+                                          Map<DocKey, Set<String>> matched) {
+        Map<String, Map<DocKey, Float>> expansions;
+        if (prefix) {
+            expansions = topExpansions(term);
+        } else {
+            Map<DocKey, Float> exact = postings.get(term);
+            expansions = exact == null ? Map.of() : Map.of(term, exact);
+        }
+        
+        Map<DocKey, Double> scores = new HashMap<>();
+        expansions.forEach((expanded, docs) -> {
+            double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            double factor = expanded.equals(term) ? 1.0 : PREFIX_PENALTY;
+            docs.forEach((key, weight) -> {
+                double score = factor * idf * weight * (SATURATION + 1) / (weight + SATURATION);
+                // A document matching several completions counts its best one
+                scores.merge(key, score, Math::max);
+                matched.computeIfAbsent(key, k -> new HashSet<>()).add(expanded);
+            });
+        });
+        return scores;
+    }
+    
+    // By document frequency; the word itself, if indexed, is always kept
+    private Map<String, Map<DocKey, Float>> topExpansions(String prefix) {
+        Comparator<Map.Entry<String, Map<DocKey, Float>>> leastCommonFirst =
+                Comparator.<Map.Entry<String, Map<DocKey, Float>>>comparingInt(entry -> entry.getValue().size())
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<String, Map<DocKey, Float>>> top = new PriorityQueue<>(leastCommonFirst);
+        for (Map.Entry<String, Map<DocKey, Float>> entry
+                : postings.subMap(prefix, false, prefix + Character.MAX_VALUE, false).entrySet()) {
+            top.add(entry);
+            if (top.size() > MAX_PREFIX_EXPANSIONS) {
+                top.poll();
+            }
+        }
+        Map<DocKey, Float> exact = postings.get(prefix);
+        if (exact != null && top.size() == MAX_PREFIX_EXPANSIONS) {
+            top.poll();
+        }
+        Map<String, Map<DocKey, Float>> expansions = new HashMap<>();
+        top.forEach(entry -> expansions.put(entry.getKey(), entry.getValue()));
+        if (exact != null) {
+            expansions.put(prefix, exact);
+        }
+        return expansions;
+    }
+    
+    private void removeLocked(DocKey key) {
+        documents.remove(key);
+        Set<String> terms = documentTerms.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<DocKey, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(key);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+    
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String term = matcher.group().toLowerCase(Locale.ROOT);
+            if (!STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+    
+    // HTML-escaped text with matched words wrapped in <em>
+    static String highlight(String text, Collection<String> matchedTerms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        Matcher matcher = TOKEN.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            if (matchedTerms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                out.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                        .append("<em>").append(HtmlUtils.htmlEscape(matcher.group())).append("</em>");
+                last = matcher.end();
+            }
+        }
+        return out.append(HtmlUtils.htmlEscape(text.substring(last))).toString();
+    }
+    
+    // Highlighted window of the excerpt around its first matched word
+    static String snippet(String excerpt, Collection<String> matchedTerms) {
+        if (excerpt == null) {
+            return null;
+        }
+        int start = 0;
+        Matcher matcher = TOKEN.matcher(excerpt);
+        while (matcher.find()) {
+            if (matchedTerms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                start = Math.max(0, matcher.start() - SNIPPET_LENGTH / 4);
+                break;
+            }
+        }
+        int end = Math.min(excerpt.length(), start + SNIPPET_LENGTH);
+        String window = excerpt.substring(start, end);
+        return (start > 0 ? "…" : "") + highlight(window, matchedTerms) + (end < excerpt.length() ? "…" : "");
+    }
+}
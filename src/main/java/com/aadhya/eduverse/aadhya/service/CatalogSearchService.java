@@ -0,0 +1,248 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.SearchHit;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.aadhya.eduverse.aadhya.service.CatalogSearchIndex.DocKey;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps CatalogSearchIndex in step with the catalog: a full load on startup, then one row
+// per CatalogChangedEvent. An event without an id (bulk import, write on another node) resyncs
+// the table by comparing row versions, so only rows that are new or changed are read again.
+// Events only mark rows dirty, so writers never wait for the index; the next search reads them.
+// Rows are read with plain JDBC since the index needs the description LOB of every entry.
+@Service
+@Observed(name = "aadhya.service")
+public class CatalogSearchService {
+    
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchService.class);
+    
+    private static final String PRODUCT_SQL = "SELECT id, version, name, NULL AS category, short_description, description, image_url FROM product";
+    private static final String SERVICE_SQL = "SELECT id, version, name, category, short_description, description, image_url FROM service";
+    // Every write to a row increments its version (@Version, VersionedEntityWriter)
+    private static final String PRODUCT_VERSIONS_SQL = "SELECT id, version FROM product";
+    private static final String SERVICE_VERSIONS_SQL = "SELECT id, version FROM service";
+    // Bind parameters per IN list, well under SQL Server's limit of 2100
+    private static final int RELOAD_BATCH_SIZE = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxLimit;
+    private final CatalogSearchIndex index = new CatalogSearchIndex();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+    // Row version of every indexed document; guarded by loadLock
+    private final Map<DocKey, Long> indexedVersions = new HashMap<>();
+    
+    // Written by committed writes, drained by searches; only held for a map update
+    private final ReentrantLock dirtyLock = new ReentrantLock();
+    private final Set<DocKey> dirtyRows = new HashSet<>(); // guarded by dirtyLock
+    private final Set<CatalogEntityType> dirtyTypes = EnumSet.noneOf(CatalogEntityType.class); // guarded by dirtyLock
+    private volatile boolean dirty;
+    
+    @Autowired
+    public CatalogSearchService(JdbcTemplate jdbcTemplate, @Value("${app.search.max-limit:50}") int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxLimit = maxLimit;
+    }
+    
+    public List<SearchHit> search(String query, String type, int limit, boolean prefix) {
+        ensureLoaded();
+        applyPendingChanges();
+        CatalogEntityType entityType = type == null || type.isBlank() ? null : parseType(type);
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        return index.search(query, entityType, size, prefix).stream()
+                .map(CatalogSearchService::toSearchHit)
+                .toList();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+    
+    // After commit, so that the reload cannot miss the writer's rows. A change that lands
+    // during the initial load is applied again afterwards, since the load may have read the row first.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getEntityType() == CatalogEntityType.COMPANY_INFO) {
+            return;
+        }
+        dirtyLock.lock();
+        try {
+            if (event.getEntityId() == null) {
+                dirtyTypes.add(event.getEntityType());
+            } else {
+                dirtyRows.add(new DocKey(event.getEntityType(), event.getEntityId()));
+            }
+            dirty = true;
+        } finally {
+            dirtyLock.unlock();
+        }
+    }
+    
+    boolean hasPendingChanges() {
+        return dirty;
+    }
+    
+    // Searches queued behind one applying changes wait for it, so a search never misses a write
+    // that committed before it started
+    private void applyPendingChanges() {
+        if (!dirty) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            List<DocKey> rows;
+            List<CatalogEntityType> types;
+            dirtyLock.lock();
+            try {
+                rows = List.copyOf(dirtyRows);
+                types = List.copyOf(dirtyTypes);
+                dirtyRows.clear();
+                dirtyTypes.clear();
+                dirty = false;
+            } finally {
+                dirtyLock.unlock();
+            }
+            try {
+                for (CatalogEntityType type : types) {
+                    resync(type);
+                }
+                for (DocKey row : rows) {
+                    if (!types.contains(row.type())) {
+                        reload(row.type(), row.id());
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Keep searching the index as it is; the next search tries again
+                log.warn("Could not apply catalog changes to the search index: {}", e.getMessage());
+                dirtyLock.lock();
+                try {
+                    dirtyRows.addAll(rows);
+                    dirtyTypes.addAll(types);
+                    dirty = true;
+                } finally {
+                    dirtyLock.unlock();
+                }
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+    
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                long start = System.nanoTime();
+                reloadAll(CatalogEntityType.PRODUCT);
+                reloadAll(CatalogEntityType.SERVICE);
+                loaded = true;
+                log.info("Search index built with {} entries in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+    
+    private void reloadAll(CatalogEntityType type) {
+        index.removeAll(type);
+        indexedVersions.keySet().removeIf(key -> key.type() == type);
+        jdbcTemplate.query(sqlFor(type), (RowCallbackHandler) rs -> put(type, rs));
+    }
+    
+    private void reload(CatalogEntityType type, Long id) {
+        List<Boolean> found = jdbcTemplate.query(sqlFor(type) + " WHERE id = ?", (rs, rowNum) -> {
+            put(type, rs);
+            return true;
+        }, id);
+        if (found.isEmpty()) {
+            remove(new DocKey(type, id));
+        }
+    }
+    
+    private void resync(CatalogEntityType type) {
+        Map<Long, Long> current = new HashMap<>();
+        jdbcTemplate.query(type == CatalogEntityType.PRODUCT ? PRODUCT_VERSIONS_SQL : SERVICE_VERSIONS_SQL,
+                (RowCallbackHandler) rs -> current.put(rs.getLong("id"), rs.getLong("version")));
+        
+        List<DocKey> removed = indexedVersions.keySet().stream()
+                .filter(key -> key.type() == type && !current.containsKey(key.id()))
+                .toList();
+        removed.forEach(this::remove);
+        List<Long> changed = current.entrySet().stream()
+                .filter(row -> !row.getValue().equals(indexedVersions.get(new DocKey(type, row.getKey()))))
+                .map(Map.Entry::getKey)
+                .toList();
+        for (int from = 0; from < changed.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = changed.subList(from, Math.min(from + RELOAD_BATCH_SIZE, changed.size()));
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+            jdbcTemplate.query(sqlFor(type) + " WHERE id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> put(type, rs), batch.toArray());
+        }
+        log.debug("Search index resync of {}: {} changed, {} removed", type, changed.size(), removed.size());
+    }
+    
+    private void put(CatalogEntityType type, ResultSet rs) throws SQLException {
+        DocKey key = new DocKey(type, rs.getLong("id"));
+        index.put(key, rs.getString("name"), rs.getString("category"),
+                rs.getString("short_description"), rs.getString("description"), rs.getString("image_url"));
+        indexedVersions.put(key, rs.getLong("version"));
+    }
+    
+    private void remove(DocKey key) {
+        index.remove(key);
+        indexedVersions.remove(key);
+    }
+    
+    private static String sqlFor(CatalogEntityType type) {
+        return type == CatalogEntityType.PRODUCT ? PRODUCT_SQL : SERVICE_SQL;
+    }
+    
+    private static CatalogEntityType parseType(String type) {
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "product", "products" -> CatalogEntityType.PRODUCT;
+            case "service", "services" -> CatalogEntityType.SERVICE;
+            default -> throw new IllegalArgumentException("Unknown search type: " + type);
+        };
+    }
+    
+    private static SearchHit toSearchHit(CatalogSearchIndex.Hit hit) {
+        CatalogSearchIndex.Document document = hit.document();
+        return new SearchHit(
+                document.key().type() == CatalogEntityType.PRODUCT ? "product" : "service",
+                document.key().id(),
+                document.name(),
+                document.category(),
+                document.imageUrl(),
+                hit.score(),
+                CatalogSearchIndex.highlight(document.name(), hit.matchedTerms()),
+                CatalogSearchIndex.highlight(document.shortDescription(), hit.matchedTerms()),
+                CatalogSearchIndex.snippet(document.excerpt(), hit.matchedTerms()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.config.ReadReplicaRouting;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// The catalog_version table: one counter per entity type, bumped inside every catalog write
+// transaction, so a committed write is visible to other nodes as a changed counter.
+@Component
+class CatalogVersions {
+
+    private static final String BUMP_SQL = "UPDATE catalog_version SET version = version + 1 WHERE entity_type = ?";
+    private static final String SELECT_SQL = "SELECT version FROM catalog_version WHERE entity_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogChangePublisher changePublisher;
+    // Present when a read replica is configured; told every version reads must not go behind
+    private final ObjectProvider<ReadReplicaRouting> replicaRouting;
+    // Version of each type that this node's caches already reflect
+    private final Map<CatalogEntityType, Long> seen = new ConcurrentHashMap<>();
+    // The bump as one statement that also returns the new version, per database; null where there is none
+    private volatile String bumpReturningSql;
+    private volatile boolean bumpReturningResolved;
+
+    @Autowired
+    CatalogVersions(
+            JdbcTemplate jdbcTemplate,
+            CatalogChangePublisher changePublisher,
+            ObjectProvider<ReadReplicaRouting> replicaRouting) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changePublisher = changePublisher;
+        this.replicaRouting = replicaRouting;
+    }
+
+    // Call inside the writing transaction; returns the new version
+    long bump(CatalogEntityType type) {
+        long version = increment(type);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changePublisher.committed(type, version);
+                    replicaRouting.ifAvailable(routing -> routing.requireVersion(type, version));
+                    // The writer refreshes its own caches; only skip the poll if no other write came in between
+                    seen.computeIfPresent(type, (t, previous) -> previous == version - 1 ? version : previous);
+                }
+            });
+        }
+        return version;
+    }
+
+    private long increment(CatalogEntityType type) {
+        String returning = bumpReturningSql();
+        Long version;
+        if (returning != null) {
+            version = DataAccessUtils.singleResult(jdbcTemplate.queryForList(returning, Long.class, type.name()));
+        } else {
+            // The row is locked until commit, so the SELECT reads exactly our bump
+            version = jdbcTemplate.update(BUMP_SQL, type.name()) > 0
+                    ? jdbcTemplate.queryForObject(SELECT_SQL, Long.class, type.name())
+                    : null;
+        }
+        if (version != null) {
+            return version;
+        }
+        // No row yet (the migration inserts them, so only on a schema created another way)
+        try {
+            jdbcTemplate.update("INSERT INTO catalog_version (entity_type, version) VALUES (?, 1)", type.name());
+            return 1;
+        } catch (DuplicateKeyException e) {
+            return increment(type); // another node inserted it first
+        }
+    }
+
+    private String bumpReturningSql() {
+        if (!bumpReturningResolved) {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            bumpReturningSql = switch (database == null ? "" : database) {
+                case "Microsoft SQL Server" ->
+                        "UPDATE catalog_version SET version = version + 1 OUTPUT inserted.version WHERE entity_type = ?";
+                case "H2" -> "SELECT version FROM FINAL TABLE (" + BUMP_SQL + ")";
+                case "PostgreSQL" -> BUMP_SQL + " RETURNING version";
+                default -> null;
+            };
+            bumpReturningResolved = true;
+        }
+        return bumpReturningSql;
+    }
+
+    // Types without a row yet (never written) read as version 0
+    Map<CatalogEntityType, Long> read() {
+        Map<CatalogEntityType, Long> versions = new EnumMap<>(CatalogEntityType.class);
+        for (CatalogEntityType type : CatalogEntityType.values()) {
+            versions.put(type, 0L);
+        }
+        jdbcTemplate.query("SELECT entity_type, version FROM catalog_version", rs -> {
+            versions.put(CatalogEntityType.valueOf(rs.getString(1)), rs.getLong(2));
+        });
+        return versions;
+    }
+
+    // True if version is newer than what this node has seen, and the caller must then invalidate
+    // (which publishes). Also true for the first call per type: anything cached before it may
+    // predate a write made elsewhere in the meantime.
+    boolean advance(CatalogEntityType type, long version) {
+        // Otherwise a reload triggered by this version could still read the older replica copy
+        replicaRouting.ifAvailable(routing -> routing.requireVersion(type, version));
+        Long previous = seen.putIfAbsent(type, version);
+        if (previous == null) {
+            changePublisher.committed(type, version);
+            return true;
+        }
+        while (version > previous) {
+            if (seen.replace(type, previous, version)) {
+                changePublisher.committed(type, version);
+                return true;
+            }
+            previous = seen.get(type);
+        }
+        return false;
+    }
+}
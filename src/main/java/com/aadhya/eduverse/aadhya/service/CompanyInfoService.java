@@ -1,44 +1,121 @@
 package com.aadhya.eduverse.aadhya.service;
 
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
 import com.aadhya.eduverse.aadhya.model.CompanyInfo;
 import com.aadhya.eduverse.aadhya.repository.CompanyInfoRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
+// Company info is read on every /api/company and home snapshot request but changes only through
+// saveCompanyInfo, so the current record is published once as an immutable CompanyInfoDTO, replaced
+// wholesale on save (or dropped when CatalogCoherencePoller sees a save made on another node) and
+// returned to every caller as is.
 @Service
+@Observed(name = "aadhya.service")
 public class CompanyInfoService {
     
+    // Served while there is no row
+    private static final CompanyInfoDTO DEFAULT_INFO = new CompanyInfoDTO(null,
+            "Aadhya Eduverse",
+            "Empowering Education Through Technology",
+            "Leading educational technology company specializing in AI-powered learning solutions and professional training services.",
+            "aadhyaeduverse@divyaam.net",
+            "+918860905412",
+            "Bahjoi, Sambhal UP. India 244410",
+            null,
+            "https://aadhyaeduverse.com");
+    
     private final CompanyInfoRepository companyInfoRepository;
+    private final CatalogChangePublisher changePublisher;
+    private final CatalogVersions catalogVersions;
+    private final TransactionTemplate transactionTemplate;
+    
+    private volatile CompanyInfoDTO current; // null until first loaded
+    // Id of the singleton row once known, guarded by loadLock; kept across invalidate() so that
+    // reloads and saves look the row up by id
+    private Long rowId;
+    private final ReentrantLock loadLock = new ReentrantLock();
     
     @Autowired
-    public CompanyInfoService(CompanyInfoRepository companyInfoRepository) {
+    public CompanyInfoService(
+            CompanyInfoRepository companyInfoRepository,
+            CatalogChangePublisher changePublisher,
+            CatalogVersions catalogVersions,
+            TransactionTemplate transactionTemplate) {
         this.companyInfoRepository = companyInfoRepository;
+        this.changePublisher = changePublisher;
+        this.catalogVersions = catalogVersions;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    public Optional<CompanyInfoDTO> getCompanyInfo() {
+        CompanyInfoDTO info = current;
+        return Optional.of(info != null ? info : load());
+    }
+    
+    public CompanyInfoDTO saveCompanyInfo(CompanyInfo companyInfo) {
+        loadLock.lock();
+        try {
+            SavedInfo savedInfo = transactionTemplate.execute(status -> {
+                // Always update the singleton row rather than inserting another one
+                Long existingId = rowId != null ? rowId
+                        : companyInfoRepository.findFirstByOrderByIdAsc().map(CompanyInfo::getId).orElse(null);
+                CompanyInfo row = new CompanyInfo(existingId, companyInfo.getName(), companyInfo.getTagline(),
+                        companyInfo.getAbout(), companyInfo.getEmail(), companyInfo.getPhone(), companyInfo.getAddress(),
+                        companyInfo.getLogoUrl(), companyInfo.getWebsiteUrl());
+                CompanyInfoDTO saved = CompanyInfoDTO.of(companyInfoRepository.save(row));
+                catalogVersions.bump(CatalogEntityType.COMPANY_INFO);
+                // A remembered row deleted in the meantime is inserted again under a new id
+                return new SavedInfo(saved, !saved.getId().equals(existingId));
+            });
+            rowId = savedInfo.info().getId();
+            current = savedInfo.info();
+            changePublisher.publish(CatalogEntityType.COMPANY_INFO,
+                    savedInfo.created() ? CatalogChangeType.CREATED : CatalogChangeType.UPDATED, savedInfo.info().getId());
+            return savedInfo.info();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+    
+    // Saved on another node: drop the held record so the next read goes back to the database
+    public void invalidate() {
+        loadLock.lock();
+        try {
+            current = null;
+        } finally {
+            loadLock.unlock();
+        }
+        changePublisher.publish(CatalogEntityType.COMPANY_INFO, CatalogChangeType.RELOADED, null);
     }
     
-    public Optional<CompanyInfo> getCompanyInfo() {
-        // Try to get company info from database
-        Optional<CompanyInfo> companyInfo = companyInfoRepository.findAll().stream().findFirst();
-        
-        // If no data exists, return default company information
-        if (companyInfo.isEmpty()) {
-            CompanyInfo defaultInfo = new CompanyInfo();
-            defaultInfo.setName("Aadhya Eduverse");
-            defaultInfo.setTagline("Empowering Education Through Technology");
-            defaultInfo.setEmail("aadhyaeduverse@divyaam.net");
-            defaultInfo.setPhone("+918860905412");
-            defaultInfo.setAddress("Bahjoi, Sambhal UP. India 244410");
-            defaultInfo.setAbout("Leading educational technology company specializing in AI-powered learning solutions and professional training services.");
-            defaultInfo.setWebsiteUrl("https://aadhyaeduverse.com");
-            
-            return Optional.of(defaultInfo);
+    private CompanyInfoDTO load() {
+        loadLock.lock();
+        try {
+            CompanyInfoDTO info = current;
+            if (info == null) {
+                Optional<CompanyInfoDTO> row = rowId != null ? companyInfoRepository.findViewById(rowId) : Optional.empty();
+                if (row.isEmpty()) {
+                    row = companyInfoRepository.findFirstView();
+                }
+                rowId = row.map(CompanyInfoDTO::getId).orElse(null);
+                info = row.orElse(DEFAULT_INFO);
+                current = info;
+            }
+            return info;
+        } finally {
+            loadLock.unlock();
         }
-        
-        return companyInfo;
     }
     
-    public CompanyInfo saveCompanyInfo(CompanyInfo companyInfo) {
-        return companyInfoRepository.save(companyInfo);
+    private record SavedInfo(CompanyInfoDTO info, boolean created) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,316 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.ContactFormDTO;
+import com.aadhya.eduverse.aadhya.model.ContactMessage;
+import com.aadhya.eduverse.aadhya.model.ContactMessageStatus;
+import com.aadhya.eduverse.aadhya.repository.ContactMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// Durable outbox for contact form mail: the request thread only inserts a row,
+// a bounded worker pool delivers it with retry and exponential backoff.
+@Service
+@Observed(name = "aadhya.service")
+public class ContactOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactOutboxService.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final EmailService emailService;
+    private final ContactRateLimiter contactRateLimiter;
+    private final ThreadPoolExecutor workers;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+    private final Counter duplicateCounter;
+
+    // Submission fingerprint -> reference id of the outbox row created for it
+    private final Cache<String, CompletableFuture<Long>> recentSubmissions;
+
+    @Autowired
+    public ContactOutboxService(
+            ContactMessageRepository contactMessageRepository,
+            EmailService emailService,
+            ContactRateLimiter contactRateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.outbox.workers:4}") int workerCount,
+            @Value("${app.mail.outbox.queue-capacity:100}") int queueCapacity,
+            @Value("${app.mail.outbox.max-attempts:6}") int maxAttempts,
+            @Value("${app.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.mail.outbox.max-backoff:30m}") Duration maxBackoff,
+            @Value("${app.mail.outbox.claim-lease:5m}") Duration claimLease,
+            @Value("${app.mail.outbox.dedup-window:10m}") Duration dedupWindow,
+            @Value("${app.mail.outbox.dedup-max-entries:10000}") long dedupMaxEntries,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.emailService = emailService;
+        this.contactRateLimiter = contactRateLimiter;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimLease = claimLease;
+        this.recentSubmissions = Caffeine.newBuilder()
+                .expireAfterWrite(dedupWindow)
+                .maximumSize(dedupMaxEntries)
+                .build();
+
+        // Still a bounded pool with virtual threads: workerCount caps concurrent SMTP sends
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("contact-outbox-", 1).factory()
+                : Thread.ofPlatform().name("contact-outbox-", 1).daemon(true).factory();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+
+        Gauge.builder("contact.outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("Contact messages waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("contact.outbox.workers.active", workers, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("contact.mail.send")
+                .description("SMTP delivery latency for contact messages")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("contact.mail.failures").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("contact.outbox.dead.letters").register(meterRegistry);
+        this.duplicateCounter = Counter.builder("contact.outbox.duplicates")
+                .description("Resubmitted contact forms answered with an existing reference")
+                .register(meterRegistry);
+    }
+
+    // Double-clicks and client retries within the dedup window get the reference of the first
+    // submission; a concurrent duplicate waits for that insert instead of creating a second row.
+    // Only a new submission spends a token of the sender's rate limit.
+    public Long enqueue(ContactFormDTO contactForm, String idempotencyKey) {
+        // Hashed either way, so arbitrarily long client keys cost a fixed amount of memory
+        String fingerprint = idempotencyKey != null && !idempotencyKey.isBlank()
+                ? "key:" + fingerprint(idempotencyKey)
+                // Only the email is case-insensitive; "Fees?" and "FEES?" may be different messages
+                : "form:" + fingerprint(normalizeWhitespace(contactForm.getName()),
+                        normalizeWhitespace(contactForm.getEmail()).toLowerCase(Locale.ROOT),
+                        normalizeWhitespace(contactForm.getSubject()), normalizeWhitespace(contactForm.getMessage()));
+
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        CompletableFuture<Long> existing = recentSubmissions.asMap().putIfAbsent(fingerprint, pending);
+        if (existing != null) {
+            duplicateCounter.increment();
+            return await(existing);
+        }
+        try {
+            long wait = contactRateLimiter.acquireForSender(contactForm.getEmail());
+            if (wait > 0) {
+                throw new SenderRateLimitedException(wait);
+            }
+            Long id = enqueue(contactForm);
+            pending.complete(id);
+            return id;
+        } catch (RuntimeException e) {
+            // Let the client retry a failed insert
+            recentSubmissions.asMap().remove(fingerprint, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Long enqueue(ContactFormDTO contactForm) {
+        Instant now = Instant.now();
+
+        ContactMessage message = new ContactMessage();
+        message.setName(contactForm.getName());
+        message.setEmail(contactForm.getEmail());
+        message.setSubject(contactForm.getSubject());
+        message.setMessage(contactForm.getMessage());
+        message.setStatus(ContactMessageStatus.PENDING);
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+
+        Long id = contactMessageRepository.save(message).getId();
+        queueDepth.incrementAndGet();
+
+        // Fast path; if the pool is saturated the poller picks the row up later
+        submit(id);
+        return id;
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatchDue() {
+        int capacity = workers.getQueue().remainingCapacity();
+        if (capacity > 0) {
+            List<ContactMessage> due = contactMessageRepository
+                    .findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                            ContactMessageStatus.PENDING, Instant.now(), Limit.of(capacity));
+            for (ContactMessage message : due) {
+                submit(message.getId());
+            }
+        }
+        queueDepth.set(contactMessageRepository.countByStatus(ContactMessageStatus.PENDING));
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.recovery-interval-ms:60000}")
+    public void releaseExpiredClaims() {
+        int released = contactMessageRepository.releaseExpiredClaims(
+                ContactMessageStatus.SENDING, ContactMessageStatus.PENDING, Instant.now().minus(claimLease));
+        if (released > 0) {
+            log.warn("Requeued {} contact messages whose delivery claim expired", released);
+        }
+    }
+
+    private void submit(Long id) {
+        try {
+            workers.execute(() -> deliver(id));
+        } catch (RejectedExecutionException e) {
+            log.debug("Outbox workers saturated, message {} left for the poller", id);
+        }
+    }
+
+    private void deliver(Long id) {
+        Instant claimedAt = Instant.now();
+        if (contactMessageRepository.transition(id, ContactMessageStatus.PENDING,
+                ContactMessageStatus.SENDING, claimedAt) == 0) {
+            return; // already claimed by another worker or node
+        }
+        ContactMessage message = contactMessageRepository.findById(id).orElse(null);
+        if (message == null) {
+            return;
+        }
+        message.setAttempts(message.getAttempts() + 1);
+
+        long start = System.nanoTime();
+        try {
+            emailService.sendContactEmail(toContactForm(message));
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            message.setStatus(ContactMessageStatus.SENT);
+            message.setSentAt(Instant.now());
+            message.setLastError(null);
+        } catch (RuntimeException e) {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            failureCounter.increment();
+            message.setLastError(truncate(e.getMessage()));
+
+            if (message.getAttempts() >= maxAttempts) {
+                deadLetterCounter.increment();
+                message.setStatus(ContactMessageStatus.DEAD);
+                log.error("Contact message {} moved to dead letters after {} attempts", id, message.getAttempts(), e);
+            } else {
+                message.setStatus(ContactMessageStatus.PENDING);
+                message.setNextAttemptAt(Instant.now().plus(backoff(message.getAttempts())));
+                log.warn("Contact message {} failed attempt {}, retrying at {}",
+                        id, message.getAttempts(), message.getNextAttemptAt());
+            }
+        }
+        contactMessageRepository.save(message);
+        if (message.getStatus() != ContactMessageStatus.PENDING) {
+            queueDepth.updateAndGet(depth -> Math.max(0, depth - 1));
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        // +/-20% jitter so a burst of failures does not retry in lockstep
+        long jitter = (long) (capped * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Duration.ofMillis(Math.max(0, capped + jitter));
+    }
+
+    private static String fingerprint(String... fields) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : fields) {
+                digest.update((field == null ? "" : field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String normalizeWhitespace(String field) {
+        return field == null ? "" : WHITESPACE.matcher(field.trim()).replaceAll(" ");
+    }
+
+    private static Long await(CompletableFuture<Long> submission) {
+        try {
+            return submission.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ContactFormDTO toContactForm(ContactMessage message) {
+        return new ContactFormDTO(message.getName(), message.getEmail(), message.getSubject(), message.getMessage());
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+
+    public static class SenderRateLimitedException extends RuntimeException {
+
+        private final long waitNanos;
+
+        public SenderRateLimitedException(long waitNanos) {
+            super("Too many messages from this address");
+            this.waitNanos = waitNanos;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Unfinished messages stay SENDING and are requeued once their claim expires
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// Contact form limits: per client IP (checked before the body is read) and per sender email
+@Component
+public class ContactRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter byClient;
+    private final TokenBucketRateLimiter bySender;
+    private final Counter clientRejections;
+    private final Counter senderRejections;
+
+    @Autowired
+    public ContactRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.contact.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.contact.rate-limit.ip.capacity:10}") int ipCapacity,
+            @Value("${app.contact.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+            @Value("${app.contact.rate-limit.email.capacity:3}") int emailCapacity,
+            @Value("${app.contact.rate-limit.email.refill-period:10m}") Duration emailRefillPeriod,
+            @Value("${app.contact.rate-limit.max-keys:100000}") long maxKeys) {
+        this.enabled = enabled;
+        this.byClient = new TokenBucketRateLimiter(ipCapacity, ipRefillPeriod, maxKeys);
+        this.bySender = new TokenBucketRateLimiter(emailCapacity, emailRefillPeriod, maxKeys);
+        this.clientRejections = Counter.builder("contact.rate.limited").tag("key", "ip").register(meterRegistry);
+        this.senderRejections = Counter.builder("contact.rate.limited").tag("key", "email").register(meterRegistry);
+    }
+
+    // Both return 0 when allowed, otherwise the nanoseconds to wait
+    public long acquireForClient(String clientAddress) {
+        if (!enabled || clientAddress == null) {
+            return 0;
+        }
+        long wait = byClient.tryAcquire(clientAddress);
+        if (wait > 0) {
+            clientRejections.increment();
+        }
+        return wait;
+    }
+
+    public long acquireForSender(String email) {
+        if (!enabled || email == null) {
+            return 0;
+        }
+        long wait = bySender.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (wait > 0) {
+            senderRejections.increment();
+        }
+        return wait;
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.HomeSnapshot;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import com.aadhya.eduverse.aadhya.model.Service;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Observed(name = "aadhya.service")
+public class HomeSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(HomeSnapshotService.class);
+
+    static final List<String> HOME_CATEGORIES = List.of("Training", "Competitive Exam", "Development");
+
+    private final CompanyInfoService companyInfoService;
+    private final ProductService productService;
+    private final ServiceService serviceService;
+    private final ObjectMapper objectMapper;
+
+    private volatile HomeSnapshot snapshot;
+    private volatile boolean stale = true;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private long nextVersion = 1; // guarded by refreshLock
+
+    @Autowired
+    public HomeSnapshotService(
+            CompanyInfoService companyInfoService,
+            ProductService productService,
+            ServiceService serviceService,
+            ObjectMapper objectMapper) {
+        this.companyInfoService = companyInfoService;
+        this.productService = productService;
+        this.serviceService = serviceService;
+        this.objectMapper = objectMapper;
+    }
+
+    public HomeSnapshot getSnapshot() {
+        HomeSnapshot current = snapshot;
+        if (current != null && !stale) {
+            return current;
+        }
+        try {
+            return refresh();
+        } catch (RuntimeException e) {
+            // Keep serving the last good snapshot while the database is unavailable
+            if (current != null) {
+                log.warn("Serving stale home snapshot v{}: {}", current.getVersion(), e.getMessage());
+                return current;
+            }
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        getSnapshot();
+    }
+
+    // Only marks the snapshot stale, so writers never wait for a rebuild; the next reader rebuilds it.
+    // After commit, so that rebuild cannot see the writer's uncommitted rows.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        stale = true;
+    }
+
+    private HomeSnapshot refresh() {
+        // A lock rather than synchronized: rebuilds block on JDBC and would pin a virtual thread
+        refreshLock.lock();
+        try {
+            // Readers queued behind a rebuild pick up its result instead of building again
+            HomeSnapshot current = snapshot;
+            if (current != null && !stale) {
+                return current;
+            }
+            return rebuild();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private HomeSnapshot rebuild() {
+        // Clear the flag first so a write landing mid-build marks the result stale again
+        stale = false;
+        try {
+            Map<String, Object> response = new LinkedHashMap<>();
+
+            companyInfoService.getCompanyInfo().ifPresent(info -> response.put("companyInfo", info));
+            response.put("products", productService.getAllProducts());
+
+            Map<String, List<Service>> servicesByCategory = new LinkedHashMap<>();
+            for (String category : HOME_CATEGORIES) {
+                servicesByCategory.put(category, serviceService.getServicesByCategory(category));
+            }
+            // Categories added through the admin API appear after the fixed home sections
+            for (String category : serviceService.getCategories()) {
+                if (HOME_CATEGORIES.stream().noneMatch(category::equalsIgnoreCase)) {
+                    servicesByCategory.put(category, serviceService.getServicesByCategory(category));
+                }
+            }
+            response.put("servicesByCategory", servicesByCategory);
+
+            HomeSnapshot rebuilt = new HomeSnapshot(nextVersion++, objectMapper.writeValueAsBytes(response));
+            snapshot = rebuilt;
+            return rebuilt;
+        } catch (JsonProcessingException e) {
+            stale = true;
+            throw new IllegalStateException("Failed to serialize home snapshot", e);
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Resized/re-encoded variants of the images under static/images, kept in a
+// size-bounded LRU directory. Concurrent requests for the same variant share one encode.
+// Evicted files are deleted after a grace period, since a request may have just been handed one
+// and not opened it yet; a variant requested again within that period is taken back instead.
+// No disk IO happens under the lock, so lookups never wait on a delete they do not need.
+@Service
+@Observed(name = "aadhya.service")
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final List<Integer> WIDTH_BUCKETS = List.of(320, 640, 960, 1280, 1920);
+    private static final Map<String, Float> QUALITY_LEVELS = Map.of("low", 0.5f, "medium", 0.75f, "high", 0.85f);
+    private static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    private final ResourceLoader resourceLoader;
+    private final Path cacheDir;
+    private final long maxCacheBytes;
+    private final long evictedGraceNanos;
+    private final boolean webpWritable;
+    private final Semaphore encodePermits;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition deleted = lock.newCondition();
+    // File name -> size, in access order; guarded by lock
+    private final LinkedHashMap<String, Long> lru = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes; // guarded by lock
+    // Evicted file name -> size and eviction time (nanoTime), awaiting deletion; guarded by lock
+    private final LinkedHashMap<String, long[]> evicted = new LinkedHashMap<>();
+    // Files being deleted right now; a request for one waits rather than encode into it; guarded by lock
+    private final Set<String> deleting = new HashSet<>();
+
+    @Autowired
+    public ImageVariantService(
+            ResourceLoader resourceLoader,
+            @Value("${app.images.cache-dir:${user.home}/.aadhya/image-cache}") String cacheDir,
+            @Value("${app.images.cache-max-bytes:268435456}") long maxCacheBytes,
+            @Value("${app.images.max-concurrent-encodes:0}") int maxConcurrentEncodes,
+            @Value("${app.images.evicted-grace-ms:30000}") long evictedGraceMs) throws IOException {
+        this.resourceLoader = resourceLoader;
+        this.cacheDir = createCacheDir(Paths.get(cacheDir));
+        this.maxCacheBytes = maxCacheBytes;
+        this.evictedGraceNanos = TimeUnit.MILLISECONDS.toNanos(evictedGraceMs);
+        this.webpWritable = ImageIO.getImageWritersByFormatName("webp").hasNext();
+        int permits = maxConcurrentEncodes > 0 ? maxConcurrentEncodes : Runtime.getRuntime().availableProcessors();
+        this.encodePermits = new Semaphore(permits);
+        loadExistingVariants();
+    }
+
+    public Optional<ImageVariant> getVariant(String imagePath, Integer width, String quality, boolean acceptsWebp) {
+        String sourcePath = normalizeSourcePath(imagePath);
+        Float compression = QUALITY_LEVELS.get(quality == null ? "medium" : quality.toLowerCase(Locale.ROOT));
+        if (compression == null) {
+            throw new IllegalArgumentException("Unknown quality level: " + quality);
+        }
+
+        Resource source = resourceLoader.getResource("classpath:/static/" + sourcePath);
+        if (!source.exists()) {
+            return Optional.empty();
+        }
+
+        int bucket = widthBucket(width);
+        String format = acceptsWebp && webpWritable ? "webp"
+                : sourcePath.toLowerCase(Locale.ROOT).endsWith(".png") ? "png" : "jpeg";
+        String fileName = variantFileName(source, sourcePath, bucket, quality, format);
+
+        Path cached = cacheDir.resolve(fileName);
+        if (touch(fileName) && Files.exists(cached)) {
+            return Optional.of(new ImageVariant(cached, mediaType(format)));
+        }
+
+        CompletableFuture<Path> pending = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(fileName, pending);
+        if (existing != null) {
+            return Optional.of(new ImageVariant(await(existing), mediaType(format)));
+        }
+        try {
+            Path encoded = encode(source, cached, bucket, compression, format);
+            pending.complete(encoded);
+            return Optional.of(new ImageVariant(encoded, mediaType(format)));
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fileName, pending);
+        }
+    }
+
+    private Path encode(Resource source, Path target, int width, float compression, String format) {
+        encodePermits.acquireUninterruptibly();
+        try (InputStream in = source.getInputStream()) {
+            BufferedImage original = ImageIO.read(in);
+            if (original == null) {
+                throw new IllegalArgumentException("Unsupported image: " + source.getFilename());
+            }
+            BufferedImage resized = resize(original, Math.min(width, original.getWidth()), !"png".equals(format));
+
+            // Write to a temp file and move, so readers never see a partial variant
+            Path temp = Files.createTempFile(cacheDir, "encode-", ".tmp");
+            try {
+                write(resized, temp, compression, format);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            record(target.getFileName().toString(), Files.size(target));
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode image variant " + target.getFileName(), e);
+        } finally {
+            encodePermits.release();
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage original, int width, boolean opaque) {
+        int height = Math.max(1, Math.round(original.getHeight() * (width / (float) original.getWidth())));
+        BufferedImage resized = new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static void write(BufferedImage image, Path target, float compression, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No ImageIO writer for " + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"png".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    // WebP writers offer lossless and lossy; quality only applies to lossy
+                    param.setCompressionType(Stream.of(types)
+                            .filter(type -> type.toLowerCase(Locale.ROOT).contains("lossy"))
+                            .findFirst()
+                            .orElse(types[0]));
+                }
+                param.setCompressionQuality(compression);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String normalizeSourcePath(String imagePath) {
+        String path = imagePath == null ? "" : imagePath.replace('\\', '/');
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        String lower = path.toLowerCase(Locale.ROOT);
+        if (!path.startsWith("images/") || path.contains("..")
+                || !(lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".png"))) {
+            throw new IllegalArgumentException("Not a catalog image: " + imagePath);
+        }
+        return path;
+    }
+
+    private static int widthBucket(Integer requested) {
+        if (requested == null) {
+            return WIDTH_BUCKETS.get(WIDTH_BUCKETS.size() - 1);
+        }
+        for (int bucket : WIDTH_BUCKETS) {
+            if (bucket >= requested) {
+                return bucket;
+            }
+        }
+        return WIDTH_BUCKETS.get(WIDTH_BUCKETS.size() - 1);
+    }
+
+    private static String variantFileName(Resource source, String sourcePath, int width, String quality, String format) {
+        String identity = sourcePath;
+        try {
+            // Replaced source images get new variants instead of stale cached ones
+            identity += ":" + source.contentLength() + ":" + source.lastModified();
+        } catch (IOException e) {
+            log.debug("Could not stat {}, caching by path only", sourcePath);
+        }
+        String hash = DigestUtils.md5DigestAsHex(identity.getBytes(StandardCharsets.UTF_8));
+        String level = quality == null ? "medium" : quality.toLowerCase(Locale.ROOT);
+        return hash + "-" + width + "-" + level + ("jpeg".equals(format) ? ".jpg" : "." + format);
+    }
+
+    private static MediaType mediaType(String format) {
+        return switch (format) {
+            case "webp" -> IMAGE_WEBP;
+            case "png" -> MediaType.IMAGE_PNG;
+            default -> MediaType.IMAGE_JPEG;
+        };
+    }
+
+    private static Path await(CompletableFuture<Path> encoding) {
+        try {
+            return encoding.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean touch(String fileName) {
+        lock.lock();
+        try {
+            while (deleting.contains(fileName)) {
+                deleted.awaitUninterruptibly();
+            }
+            if (lru.get(fileName) != null) {
+                return true;
+            }
+            long[] pending = evicted.remove(fileName);
+            if (pending != null) {
+                record(fileName, pending[0]);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(String fileName, long size) {
+        lock.lock();
+        try {
+            Long previous = lru.put(fileName, size);
+            cachedBytes += size - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = lru.entrySet().iterator();
+            long now = System.nanoTime();
+            while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                if (entry.getKey().equals(fileName)) {
+                    continue;
+                }
+                cachedBytes -= entry.getValue();
+                evicted.put(entry.getKey(), new long[] {entry.getValue(), now});
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.images.evicted-grace-ms:30000}")
+    public void deleteEvictedVariants() {
+        long now = System.nanoTime();
+        List<String> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, long[]>> oldest = evicted.entrySet().iterator();
+            while (oldest.hasNext()) {
+                Map.Entry<String, long[]> entry = oldest.next();
+                if (now - entry.getValue()[1] < evictedGraceNanos) {
+                    break; // in eviction order, so the rest are younger
+                }
+                oldest.remove();
+                expired.add(entry.getKey());
+            }
+            deleting.addAll(expired);
+        } finally {
+            lock.unlock();
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (String fileName : expired) {
+                try {
+                    Files.deleteIfExists(cacheDir.resolve(fileName));
+                } catch (IOException e) {
+                    log.warn("Could not delete evicted image variant {}", fileName, e);
+                }
+            }
+        } finally {
+            lock.lock();
+            try {
+                expired.forEach(deleting::remove);
+                deleted.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static Path createCacheDir(Path dir) throws IOException {
+        if (Files.exists(dir) || !dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return Files.createDirectories(dir);
+        }
+        // Owner-only: variants are served straight from this directory
+        Files.createDirectories(dir.toAbsolutePath().getParent());
+        return Files.createDirectory(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+    }
+
+    private void loadExistingVariants() throws IOException {
+        List<Path> variants = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file); // left behind by an interrupted encode
+                } else {
+                    variants.add(file);
+                }
+            }
+        }
+        // Oldest first, so they are the first to be evicted
+        variants.stream()
+                .sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                .forEach(file -> record(file.getFileName().toString(), file.toFile().length()));
+    }
+
+    public static final class ImageVariant {
+
+        private final Path file;
+        private final MediaType mediaType;
+
+        public ImageVariant(Path file, MediaType mediaType) {
+            this.file = file;
+            this.mediaType = mediaType;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+}
@@ -1,36 +1,152 @@
 package com.aadhya.eduverse.aadhya.service;
 
+import com.aadhya.eduverse.aadhya.config.CacheConfig;
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
+import com.aadhya.eduverse.aadhya.dto.ProductSummary;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
 import com.aadhya.eduverse.aadhya.model.Product;
 import com.aadhya.eduverse.aadhya.repository.ProductRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
+@Observed(name = "aadhya.service")
 public class ProductService {
     
+    private static final Set<String> UPDATABLE_FIELDS = Set.of("name", "shortDescription", "description", "imageUrl", "productUrl");
+    
     private final ProductRepository productRepository;
+    private final VersionedEntityWriter entityWriter;
+    private final CatalogVersions catalogVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogChangePublisher changePublisher;
+    private final Cache productListCache;
+    private final Cache productCache;
+    private final int maxPageSize;
     
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(
+            ProductRepository productRepository,
+            VersionedEntityWriter entityWriter,
+            CatalogVersions catalogVersions,
+            TransactionTemplate transactionTemplate,
+            CatalogChangePublisher changePublisher,
+            CacheManager cacheManager,
+            @Value("${app.catalog.page.max-size:100}") int maxPageSize) {
         this.productRepository = productRepository;
+        this.entityWriter = entityWriter;
+        this.catalogVersions = catalogVersions;
+        this.transactionTemplate = transactionTemplate;
+        this.changePublisher = changePublisher;
+        this.maxPageSize = maxPageSize;
+        this.productListCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCTS));
+        this.productCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCT_BY_ID));
     }
     
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return productListCache.get(SimpleKey.EMPTY, () -> List.copyOf(productRepository.findAll()));
+    }
+    
+    public CursorPage<ProductSummary> getProductSummaries(Long after, int size) {
+        return getProductPage(after, size, ProductSummary.class, ProductSummary::getId);
+    }
+    
+    public CursorPage<Product> getProductPage(Long after, int size) {
+        return getProductPage(after, size, Product.class, Product::getId);
+    }
+    
+    private <T> CursorPage<T> getProductPage(Long after, int size, Class<T> type, Function<T, Long> idOf) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<T> rows = productRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after : 0L, Limit.of(pageSize + 1), type);
+        return CursorPage.of(rows, pageSize, idOf);
     }
     
     public Optional<Product> getProductById(Long id) {
-        return productRepository.findById(id);
+        // Missing ids are cached as null until a save for that id
+        return Optional.ofNullable(productCache.get(id, () -> productRepository.findDetailById(id).orElse(null)));
     }
     
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = transactionTemplate.execute(status -> {
+            Product saved = productRepository.save(product);
+            catalogVersions.bump(CatalogEntityType.PRODUCT);
+            return saved;
+        });
+        // Invalidate before publishing so listeners rebuild from fresh data
+        productCache.put(savedProduct.getId(), savedProduct);
+        productListCache.clear();
+        changePublisher.publish(CatalogEntityType.PRODUCT, CatalogChangeType.CREATED, savedProduct.getId());
+        return savedProduct;
+    }
+    
+    // Full replacement of an existing product; product.version, when set, must match the stored one
+    public WriteOutcome updateProduct(Product product) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("name", product.getName());
+        values.put("shortDescription", product.getShortDescription());
+        values.put("description", product.getDescription());
+        values.put("imageUrl", product.getImageUrl());
+        values.put("productUrl", product.getProductUrl());
+        Long expectedVersion = product.getVersion();
+        
+        WriteOutcome outcome = entityWriter.update(Product.class, CatalogEntityType.PRODUCT,
+                product.getId(), expectedVersion, values, version -> product.setVersion(version));
+        if (outcome == WriteOutcome.APPLIED) {
+            // Every column was just written, so the request body with its new version is the stored row
+            productCache.put(product.getId(), product);
+            afterWrite(CatalogChangeType.UPDATED, product.getId());
+        }
+        return outcome;
+    }
+    
+    // Sets only the given fields, so clients need not send the description back
+    public WriteOutcome patchProduct(Long id, Map<String, Object> patch) {
+        VersionedEntityWriter.Patch changes = VersionedEntityWriter.Patch.of(patch, UPDATABLE_FIELDS);
+        WriteOutcome outcome = entityWriter.update(Product.class, CatalogEntityType.PRODUCT,
+                id, changes.expectedVersion(), changes.values());
+        if (outcome == WriteOutcome.APPLIED) {
+            productCache.evict(id);
+            afterWrite(CatalogChangeType.UPDATED, id);
+        }
+        return outcome;
+    }
+    
+    public WriteOutcome deleteProduct(Long id, Long expectedVersion) {
+        WriteOutcome outcome = entityWriter.delete(Product.class, CatalogEntityType.PRODUCT, id, expectedVersion);
+        if (outcome == WriteOutcome.APPLIED) {
+            productCache.evict(id);
+            afterWrite(CatalogChangeType.DELETED, id);
+        }
+        return outcome;
+    }
+    
+    private void afterWrite(CatalogChangeType changeType, Long id) {
+        productListCache.clear();
+        changePublisher.publish(CatalogEntityType.PRODUCT, changeType, id);
     }
     
-    public void deleteProduct(Long id) {
-        productRepository.deleteById(id);
+    // For writes made outside this service (bulk import, other nodes); a null id means any product may have changed
+    public void invalidateAll() {
+        productCache.clear();
+        productListCache.clear();
+        changePublisher.publish(CatalogEntityType.PRODUCT, CatalogChangeType.RELOADED, null);
     }
-}
\ No newline at end of file
+}
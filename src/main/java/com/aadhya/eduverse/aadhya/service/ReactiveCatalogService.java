@@ -0,0 +1,102 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
+import com.aadhya.eduverse.aadhya.dto.HomeSnapshot;
+import com.aadhya.eduverse.aadhya.dto.ProductSummary;
+import com.aadhya.eduverse.aadhya.dto.ServiceSummary;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+
+// Non-blocking view of the catalog: cached reads and JDBC calls run on the bounded
+// elastic scheduler, lists are emitted page by page as subscribers request them.
+@org.springframework.stereotype.Service
+public class ReactiveCatalogService {
+
+    private final ProductService productService;
+    private final ServiceService serviceService;
+    private final CompanyInfoService companyInfoService;
+    private final HomeSnapshotService homeSnapshotService;
+    private final int streamPageSize;
+    private final Scheduler scheduler = Schedulers.boundedElastic();
+
+    @Autowired
+    public ReactiveCatalogService(
+            ProductService productService,
+            ServiceService serviceService,
+            CompanyInfoService companyInfoService,
+            HomeSnapshotService homeSnapshotService,
+            @Value("${app.catalog.stream.page-size:50}") int streamPageSize) {
+        this.productService = productService;
+        this.serviceService = serviceService;
+        this.companyInfoService = companyInfoService;
+        this.homeSnapshotService = homeSnapshotService;
+        this.streamPageSize = streamPageSize;
+    }
+
+    public Flux<ProductSummary> streamProductSummaries() {
+        return pages(productService::getProductSummaries);
+    }
+
+    public Flux<Product> streamProducts() {
+        return pages(productService::getProductPage);
+    }
+
+    public Mono<Product> getProductById(Long id) {
+        return blocking(() -> productService.getProductById(id).orElse(null));
+    }
+
+    public Flux<ServiceSummary> streamServiceSummaries() {
+        return pages(serviceService::getServiceSummaries);
+    }
+
+    public Flux<Service> streamServices() {
+        return pages(serviceService::getServicePage);
+    }
+
+    public Flux<Service> streamServicesByCategory(String category) {
+        // Served from the in-memory category index, no paging needed
+        return blocking(() -> serviceService.getServicesByCategory(category)).flatMapIterable(services -> services);
+    }
+
+    public Mono<Service> getServiceById(Long id) {
+        return blocking(() -> serviceService.getServiceById(id).orElse(null));
+    }
+
+    public Mono<CompanyInfoDTO> getCompanyInfo() {
+        return blocking(() -> companyInfoService.getCompanyInfo().orElse(null));
+    }
+
+    public Mono<HomeSnapshot> getHomeSnapshot() {
+        return blocking(homeSnapshotService::getSnapshot);
+    }
+
+    // One page per request, with the cursor as generator state, so a full scan is linear in the
+    // number of pages; the next page is only fetched once the current one has been drained downstream
+    private <T> Flux<T> pages(BiFunction<Long, Integer, CursorPage<T>> fetch) {
+        return Flux.<CursorPage<T>, Long>generate(() -> null, (after, sink) -> {
+                    CursorPage<T> page = fetch.apply(after, streamPageSize);
+                    sink.next(page);
+                    if (!page.isHasMore()) {
+                        sink.complete();
+                    }
+                    return page.getNextCursor();
+                })
+                .subscribeOn(scheduler)
+                .concatMapIterable(CursorPage::getItems, 1);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        // A null result completes empty
+        return Mono.fromCallable(call).subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,60 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Immutable category -> services lookup; category matching ignores case and surrounding whitespace
+final class ServiceCategoryIndex {
+    
+    private final Map<String, List<Service>> servicesByKey;
+    private final List<String> categories;
+    
+    private ServiceCategoryIndex(Map<String, List<Service>> servicesByKey, List<String> categories) {
+        this.servicesByKey = servicesByKey;
+        this.categories = categories;
+    }
+    
+    static ServiceCategoryIndex of(Collection<Service> services) {
+        Map<String, List<Service>> grouped = new LinkedHashMap<>();
+        Map<String, String> displayNames = new HashMap<>();
+        for (Service service : services) {
+            String key = normalize(service.getCategory());
+            if (key == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(service);
+            // First spelling seen is the one reported by categories()
+            displayNames.putIfAbsent(key, service.getCategory().trim());
+        }
+        
+        Map<String, List<Service>> servicesByKey = new HashMap<>();
+        grouped.forEach((key, list) -> servicesByKey.put(key, List.copyOf(list)));
+        
+        List<String> categories = new ArrayList<>(displayNames.values());
+        categories.sort(String.CASE_INSENSITIVE_ORDER);
+        return new ServiceCategoryIndex(Map.copyOf(servicesByKey), List.copyOf(categories));
+    }
+    
+    List<Service> find(String category) {
+        String key = normalize(category);
+        return key == null ? List.of() : servicesByKey.getOrDefault(key, List.of());
+    }
+    
+    List<String> categories() {
+        return categories;
+    }
+    
+    private static String normalize(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+}
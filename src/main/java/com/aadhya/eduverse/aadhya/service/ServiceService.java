@@ -1,40 +1,186 @@
 package com.aadhya.eduverse.aadhya.service;
 
+import com.aadhya.eduverse.aadhya.config.CacheConfig;
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
+import com.aadhya.eduverse.aadhya.dto.ServiceSummary;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
 import com.aadhya.eduverse.aadhya.model.Service;
 import com.aadhya.eduverse.aadhya.repository.ServiceRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 @Component
+@Observed(name = "aadhya.service")
 public class ServiceService {
     
+    private static final Set<String> UPDATABLE_FIELDS = Set.of("name", "category", "shortDescription", "description", "imageUrl");
+    
     private final ServiceRepository serviceRepository;
+    private final VersionedEntityWriter entityWriter;
+    private final CatalogVersions catalogVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogChangePublisher changePublisher;
+    private final Cache serviceListCache;
+    private final Cache serviceCache;
+    private volatile ServiceCategoryIndex categoryIndex;
+    // A lock rather than synchronized: the rebuild may query the database and
+    // must not pin a virtual thread's carrier while it waits
+    private final ReentrantLock categoryIndexLock = new ReentrantLock();
+    private final int maxPageSize;
     
     @Autowired
-    public ServiceService(ServiceRepository serviceRepository) {
+    public ServiceService(
+            ServiceRepository serviceRepository,
+            VersionedEntityWriter entityWriter,
+            CatalogVersions catalogVersions,
+            TransactionTemplate transactionTemplate,
+            CatalogChangePublisher changePublisher,
+            CacheManager cacheManager,
+            @Value("${app.catalog.page.max-size:100}") int maxPageSize) {
         this.serviceRepository = serviceRepository;
+        this.entityWriter = entityWriter;
+        this.catalogVersions = catalogVersions;
+        this.transactionTemplate = transactionTemplate;
+        this.changePublisher = changePublisher;
+        this.maxPageSize = maxPageSize;
+        this.serviceListCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.SERVICES));
+        this.serviceCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.SERVICE_BY_ID));
     }
     
     public List<Service> getAllServices() {
-        return serviceRepository.findAll();
+        return serviceListCache.get(SimpleKey.EMPTY, () -> List.copyOf(serviceRepository.findAll()));
     }
     
     public List<Service> getServicesByCategory(String category) {
-        return serviceRepository.findByCategory(category);
+        return categoryIndex().find(category);
+    }
+    
+    public List<String> getCategories() {
+        return categoryIndex().categories();
+    }
+    
+    public CursorPage<ServiceSummary> getServiceSummaries(Long after, int size) {
+        return getServicePage(after, size, ServiceSummary.class, ServiceSummary::getId);
+    }
+    
+    public CursorPage<Service> getServicePage(Long after, int size) {
+        return getServicePage(after, size, Service.class, Service::getId);
+    }
+    
+    private <T> CursorPage<T> getServicePage(Long after, int size, Class<T> type, Function<T, Long> idOf) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<T> rows = serviceRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after : 0L, Limit.of(pageSize + 1), type);
+        return CursorPage.of(rows, pageSize, idOf);
     }
     
     public Optional<Service> getServiceById(Long id) {
-        return serviceRepository.findById(id);
+        // Missing ids are cached as null until a save for that id
+        return Optional.ofNullable(serviceCache.get(id, () -> serviceRepository.findDetailById(id).orElse(null)));
     }
     
     public Service saveService(Service service) {
-        return serviceRepository.save(service);
+        Service savedService = transactionTemplate.execute(status -> {
+            Service saved = serviceRepository.save(service);
+            catalogVersions.bump(CatalogEntityType.SERVICE);
+            return saved;
+        });
+        // Invalidate before publishing so listeners rebuild from fresh data
+        serviceCache.put(savedService.getId(), savedService);
+        serviceListCache.clear();
+        rebuildCategoryIndex(true);
+        changePublisher.publish(CatalogEntityType.SERVICE, CatalogChangeType.CREATED, savedService.getId());
+        return savedService;
+    }
+    
+    // Full replacement of an existing service; service.version, when set, must match the stored one
+    public WriteOutcome updateService(Service service) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("name", service.getName());
+        values.put("category", service.getCategory());
+        values.put("shortDescription", service.getShortDescription());
+        values.put("description", service.getDescription());
+        values.put("imageUrl", service.getImageUrl());
+        Long expectedVersion = service.getVersion();
+        
+        WriteOutcome outcome = entityWriter.update(Service.class, CatalogEntityType.SERVICE,
+                service.getId(), expectedVersion, values, version -> service.setVersion(version));
+        if (outcome == WriteOutcome.APPLIED) {
+            // Every column was just written, so the request body with its new version is the stored row
+            serviceCache.put(service.getId(), service);
+            afterWrite(CatalogChangeType.UPDATED, service.getId());
+        }
+        return outcome;
+    }
+    
+    public WriteOutcome patchService(Long id, Map<String, Object> patch) {
+        VersionedEntityWriter.Patch changes = VersionedEntityWriter.Patch.of(patch, UPDATABLE_FIELDS);
+        WriteOutcome outcome = entityWriter.update(Service.class, CatalogEntityType.SERVICE,
+                id, changes.expectedVersion(), changes.values());
+        if (outcome == WriteOutcome.APPLIED) {
+            serviceCache.evict(id);
+            afterWrite(CatalogChangeType.UPDATED, id);
+        }
+        return outcome;
+    }
+    
+    public WriteOutcome deleteService(Long id, Long expectedVersion) {
+        WriteOutcome outcome = entityWriter.delete(Service.class, CatalogEntityType.SERVICE, id, expectedVersion);
+        if (outcome == WriteOutcome.APPLIED) {
+            serviceCache.evict(id);
+            afterWrite(CatalogChangeType.DELETED, id);
+        }
+        return outcome;
+    }
+    
+    private void afterWrite(CatalogChangeType changeType, Long id) {
+        serviceListCache.clear();
+        rebuildCategoryIndex(true);
+        changePublisher.publish(CatalogEntityType.SERVICE, changeType, id);
+    }
+    
+    public void invalidateAll() {
+        serviceCache.clear();
+        serviceListCache.clear();
+        rebuildCategoryIndex(true);
+        changePublisher.publish(CatalogEntityType.SERVICE, CatalogChangeType.RELOADED, null);
+    }
+    
+    private ServiceCategoryIndex categoryIndex() {
+        ServiceCategoryIndex index = categoryIndex;
+        return index != null ? index : rebuildCategoryIndex(false);
     }
     
-    public void deleteService(Long id) {
-        serviceRepository.deleteById(id);
+    // Serialized so a reader's initial build can never overwrite a writer's newer index
+    private ServiceCategoryIndex rebuildCategoryIndex(boolean force) {
+        categoryIndexLock.lock();
+        try {
+            ServiceCategoryIndex index = categoryIndex;
+            if (force || index == null) {
+                index = ServiceCategoryIndex.of(getAllServices());
+                categoryIndex = index;
+            }
+            return index;
+        } finally {
+            categoryIndexLock.unlock();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Per-key token bucket in GCRA form: each key holds one "theoretical arrival time", advanced with
+// a CAS, so acquiring never locks. Keys idle long enough to have refilled completely are evicted,
+// and the key count is capped, which bounds memory under floods of distinct keys.
+public final class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, long maxKeys) {
+        this(capacity, refillPeriod, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.emissionIntervalNanos = refillPeriod.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos + emissionIntervalNanos))
+                .build();
+    }
+
+    // 0 if a token was taken, otherwise the nanoseconds until one is available
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long theoreticalArrival = arrival.get();
+            long start = Math.max(theoreticalArrival, now);
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(theoreticalArrival, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+
+// Updates and deletes catalog rows with one conditional statement (WHERE id = ? [AND version = ?])
+// instead of load-then-save; the affected-row count tells whether the write happened. A write
+// that happened also bumps the type's catalog_version row in the same transaction.
+@Component
+class VersionedEntityWriter {
+
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersions catalogVersions;
+
+    @Autowired
+    VersionedEntityWriter(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                          CatalogVersions catalogVersions) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.catalogVersions = catalogVersions;
+    }
+
+    // A null expectedVersion makes the write unconditional (last writer wins)
+    <T> WriteOutcome update(Class<T> entityType, CatalogEntityType catalogType, Long id, Long expectedVersion,
+                            Map<String, String> values) {
+        return update(entityType, catalogType, id, expectedVersion, values, null);
+    }
+
+    // appliedVersion, if given, receives the row's new version when the write happened. An unconditional
+    // write reads it back in the same transaction, while the row is still locked by the update.
+    <T> WriteOutcome update(Class<T> entityType, CatalogEntityType catalogType, Long id, Long expectedVersion,
+                            Map<String, String> values, LongConsumer appliedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+        values.forEach((attribute, value) -> {
+            if (value == null) {
+                update.set(root.<String>get(attribute), cb.nullLiteral(String.class));
+            } else {
+                update.set(root.<String>get(attribute), value);
+            }
+        });
+        update.set(root.<Long>get(VERSION), cb.sum(root.<Long>get(VERSION), 1L));
+        update.where(matches(cb, root, id, expectedVersion));
+        return outcome(entityType, id, expectedVersion, execute(catalogType, () -> {
+            int rows = entityManager.createQuery(update).executeUpdate();
+            if (rows > 0 && appliedVersion != null) {
+                appliedVersion.accept(expectedVersion != null ? expectedVersion + 1 : currentVersion(entityType, id));
+            }
+            return rows;
+        }));
+    }
+
+    <T> WriteOutcome delete(Class<T> entityType, CatalogEntityType catalogType, Long id, Long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<T> delete = cb.createCriteriaDelete(entityType);
+        Root<T> root = delete.from(entityType);
+        delete.where(matches(cb, root, id, expectedVersion));
+        return outcome(entityType, id, expectedVersion,
+                execute(catalogType, () -> entityManager.createQuery(delete).executeUpdate()));
+    }
+
+    private int execute(CatalogEntityType catalogType, IntSupplier statement) {
+        Integer rows = transactionTemplate.execute(status -> {
+            int affected = statement.getAsInt();
+            if (affected > 0) {
+                catalogVersions.bump(catalogType);
+            }
+            return affected;
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private <T> long currentVersion(Class<T> entityType, Long id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get(VERSION)).where(cb.equal(root.get(ID), id));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate matches(CriteriaBuilder cb, Root<?> root, Long id, Long expectedVersion) {
+        Predicate byId = cb.equal(root.get(ID), id);
+        return expectedVersion == null ? byId : cb.and(byId, cb.equal(root.get(VERSION), expectedVersion));
+    }
+
+    private <T> WriteOutcome outcome(Class<T> entityType, Long id, Long expectedVersion, int rows) {
+        if (rows > 0) {
+            return WriteOutcome.APPLIED;
+        }
+        if (expectedVersion == null) {
+            return WriteOutcome.NOT_FOUND;
+        }
+        // Missing row or stale version: only the failure path pays a second query to tell which
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<T> root = count.from(entityType);
+        count.select(cb.count(root)).where(cb.equal(root.get(ID), id));
+        return entityManager.createQuery(count).getSingleResult() > 0 ? WriteOutcome.VERSION_CONFLICT : WriteOutcome.NOT_FOUND;
+    }
+
+    // A PATCH body: "version" is the expected version, every other key an attribute to set
+    record Patch(Long expectedVersion, Map<String, String> values) {
+
+        static Patch of(Map<String, Object> body, Set<String> attributes) {
+            Long expectedVersion = null;
+            Map<String, String> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : body.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+                if (VERSION.equals(key)) {
+                    expectedVersion = value != null ? integralVersion(value) : null;
+                } else if (!attributes.contains(key)) {
+                    throw new IllegalArgumentException("Field cannot be patched: " + key);
+                } else if (value != null && !(value instanceof String)) {
+                    throw new IllegalArgumentException(key + " must be a string");
+                } else {
+                    values.put(key, (String) value);
+                }
+            }
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("Nothing to update");
+            }
+            return new Patch(expectedVersion, values);
+        }
+
+        // Jackson reads 1.9 as a Double and 1e20 as a BigInteger; neither may be narrowed to some other version
+        private static long integralVersion(Object value) {
+            try {
+                if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                    return ((Number) value).longValue();
+                }
+                if (value instanceof BigInteger big) {
+                    return big.longValueExact();
+                }
+                if (value instanceof Number number) {
+                    return new BigDecimal(number.toString()).longValueExact();
+                }
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("version must be an integer", e);
+            }
+            throw new IllegalArgumentException("version must be an integer");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.aadhya.eduverse.aadhya.service;
+
+// Result of a single-statement catalog update or delete
+public enum WriteOutcome {
+    APPLIED,
+    NOT_FOUND,
+    VERSION_CONFLICT
+}
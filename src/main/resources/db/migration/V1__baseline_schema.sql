@@ -0,0 +1,55 @@
+-- Schema as created by spring.jpa.hibernate.ddl-auto=update up to this point.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE company_info (
+    id          BIGINT IDENTITY(1,1) NOT NULL,
+    name        VARCHAR(255),
+    tagline     VARCHAR(255),
+    about       VARCHAR(MAX),
+    email       VARCHAR(255),
+    phone       VARCHAR(255),
+    address     VARCHAR(255),
+    logo_url    VARCHAR(255),
+    website_url VARCHAR(255),
+    CONSTRAINT pk_company_info PRIMARY KEY (id)
+);
+
+CREATE TABLE product (
+    id                BIGINT IDENTITY(1,1) NOT NULL,
+    name              VARCHAR(255),
+    short_description VARCHAR(255),
+    description       VARCHAR(MAX),
+    image_url         VARCHAR(255),
+    product_url       VARCHAR(255),
+    CONSTRAINT pk_product PRIMARY KEY (id)
+);
+
+CREATE TABLE service (
+    id                BIGINT IDENTITY(1,1) NOT NULL,
+    name              VARCHAR(255),
+    category          VARCHAR(255),
+    short_description VARCHAR(255),
+    description       VARCHAR(MAX),
+    image_url         VARCHAR(255),
+    CONSTRAINT pk_service PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_service_category ON service (category);
+
+CREATE TABLE contact_message (
+    id              BIGINT IDENTITY(1,1) NOT NULL,
+    name            VARCHAR(255),
+    email           VARCHAR(255),
+    subject         VARCHAR(255),
+    message         VARCHAR(1000),
+    status          VARCHAR(16) NOT NULL,
+    attempts        INT NOT NULL,
+    next_attempt_at DATETIMEOFFSET(6),
+    claimed_at      DATETIMEOFFSET(6),
+    created_at      DATETIMEOFFSET(6),
+    sent_at         DATETIMEOFFSET(6),
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_contact_message PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_contact_message_due ON contact_message (status, next_attempt_at);
@@ -0,0 +1,7 @@
+-- Seed files under db/seed applied by SeedDataLoader, one row per version
+CREATE TABLE seed_history (
+    version    INT NOT NULL,
+    applied_at DATETIMEOFFSET NOT NULL,
+    baseline   BIT NOT NULL,
+    CONSTRAINT pk_seed_history PRIMARY KEY (version)
+);
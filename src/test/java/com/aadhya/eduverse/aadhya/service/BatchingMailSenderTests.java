@@ -0,0 +1,101 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingMailSenderTests {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+			.withConfiguration(GreenMailConfiguration.aConfig().withUser("outbox@aadhya.test", "secret"));
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private BatchingMailSender sender;
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		if (sender != null) {
+			sender.shutdown();
+		}
+	}
+
+	@Test
+	void queuedMessagesGoOutInBatchesOfAtMostMaxSize() throws Exception {
+		sender = sender("secret", 2);
+		// Queued before the dispatcher starts, so the batch boundaries are deterministic
+		List<CompletableFuture<Void>> results = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			results.add(sender.submit(message("Enquiry " + i)));
+		}
+		sender.start();
+
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+		assertThat(greenMail.getReceivedMessages()).hasSize(5);
+		DistributionSummary batchSizes = meterRegistry.get("mail.batch.size").summary();
+		assertThat(batchSizes.count()).isEqualTo(3);
+		assertThat(batchSizes.max()).isEqualTo(2);
+	}
+
+	@Test
+	void sendFailuresReachEveryCallerInTheBatch() {
+		sender = sender("wrong-password", 20);
+		CompletableFuture<Void> first = sender.submit(message("Enquiry 1"));
+		CompletableFuture<Void> second = sender.submit(message("Enquiry 2"));
+		sender.start();
+
+		assertThatThrownBy(() -> sender.send(message("Enquiry 3"))).isInstanceOf(MailAuthenticationException.class);
+		assertThat(first).isCompletedExceptionally();
+		assertThat(second).isCompletedExceptionally();
+		assertThat(greenMail.getReceivedMessages()).isEmpty();
+	}
+
+	@Test
+	void messagesSubmittedAfterShutdownFailInsteadOfHanging() throws InterruptedException {
+		sender = sender("secret", 20);
+		sender.start();
+		sender.shutdown();
+
+		assertThat(sender.submit(message("Late enquiry"))).isCompletedExceptionally();
+		assertThatThrownBy(() -> sender.send(message("Late enquiry"))).isInstanceOf(MailSendException.class);
+	}
+
+	private BatchingMailSender sender(String password, int maxBatchSize) {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+		mailSender.setUsername("outbox@aadhya.test");
+		mailSender.setPassword(password);
+		mailSender.getJavaMailProperties().setProperty("mail.smtp.auth", "true");
+		return new BatchingMailSender(mailSender, meterRegistry, maxBatchSize,
+				Duration.ofMillis(50), Duration.ofSeconds(30), Duration.ofSeconds(10));
+	}
+
+	private static SimpleMailMessage message(String subject) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom("outbox@aadhya.test");
+		message.setTo("aadhyaeduverse@divyaam.net");
+		message.setSubject(subject);
+		message.setText("Please share the next batch timings.");
+		return message;
+	}
+
+}
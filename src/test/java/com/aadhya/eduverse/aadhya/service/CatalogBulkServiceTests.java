@@ -0,0 +1,79 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.repository.ServiceRepository;
+import com.aadhya.eduverse.aadhya.service.CatalogBulkService.Catalog;
+import com.aadhya.eduverse.aadhya.service.CatalogBulkService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogBulkServiceTests {
+
+	@Autowired
+	private CatalogBulkService catalogBulkService;
+
+	@Autowired
+	private ServiceService serviceService;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Test
+	void importsNdjsonInBatchesAndRefreshesCaches() throws Exception {
+		assertThat(serviceService.getServicesByCategory("Bulk Import")).isEmpty();
+
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 2500; i++) {
+			ndjson.append("{\"name\":\"Bulk course ").append(i)
+					.append("\",\"category\":\"Bulk Import\",\"shortDescription\":\"Imported\",\"description\":\"Long text\"}\n");
+		}
+		List<Long> progress = new ArrayList<>();
+
+		long imported = catalogBulkService.importCatalog(Catalog.SERVICES, Format.NDJSON, false, stream(ndjson.toString()),
+				progress::add);
+
+		assertThat(imported).isEqualTo(2500);
+		assertThat(progress).containsExactly(1000L, 2000L, 2500L);
+		assertThat(serviceService.getServicesByCategory("Bulk Import")).hasSize(2500);
+
+		ByteArrayOutputStream exported = new ByteArrayOutputStream();
+		catalogBulkService.exportCatalog(Catalog.SERVICES, Format.CSV, exported);
+		String csv = exported.toString(StandardCharsets.UTF_8);
+		assertThat(csv).startsWith("id,name,category,shortDescription,description,imageUrl");
+		assertThat(csv).contains("Bulk course 2499").contains("Bulk Import");
+	}
+
+	@Test
+	void invalidRecordRollsBackWholeImport() {
+		long before = serviceRepository.count();
+		String csv = "name,category,shortDescription\n"
+				+ "First,Rolled Back,ok\n"
+				+ "Second,Rolled Back,ok\n"
+				+ "Third,,missing category\n";
+
+		assertThatThrownBy(() -> catalogBulkService.importCatalog(Catalog.SERVICES, Format.CSV, false, stream(csv), count -> {
+		}))
+				.isInstanceOf(CatalogBulkService.InvalidRecordException.class)
+				.hasMessageContaining("category is required");
+
+		assertThat(serviceRepository.count()).isEqualTo(before);
+		assertThat(serviceService.getServicesByCategory("Rolled Back")).isEmpty();
+	}
+
+	private static ByteArrayInputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
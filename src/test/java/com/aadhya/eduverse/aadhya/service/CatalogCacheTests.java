@@ -0,0 +1,97 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.model.Service;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every read below is served from a cache warmed by the read before it, so each assertion
+// checks that the write in between evicted or replaced the cached entry
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogCacheTests {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ServiceService serviceService;
+
+	@Test
+	void productWritesAreVisibleOnTheNextRead() {
+		int before = productService.getAllProducts().size();
+		Product saved = productService.saveProduct(product("Fee Manager"));
+		Long id = saved.getId();
+		assertThat(productService.getAllProducts()).hasSize(before + 1);
+		assertThat(productService.getProductById(id)).map(Product::getName).contains("Fee Manager");
+
+		Product replacement = product("Fee Manager Plus");
+		replacement.setId(id);
+		replacement.setVersion(saved.getVersion());
+		assertThat(productService.updateProduct(replacement)).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(productService.getProductById(id)).map(Product::getName).contains("Fee Manager Plus");
+		assertThat(productService.getAllProducts()).extracting(Product::getName).contains("Fee Manager Plus");
+
+		assertThat(productService.patchProduct(id, Map.of("name", "Fee Manager Pro"))).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(productService.getProductById(id)).map(Product::getName).contains("Fee Manager Pro");
+		assertThat(productService.getAllProducts()).extracting(Product::getName).contains("Fee Manager Pro");
+
+		assertThat(productService.deleteProduct(id, null)).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(productService.getProductById(id)).isEmpty();
+		assertThat(productService.getAllProducts()).hasSize(before);
+	}
+
+	@Test
+	void serviceWritesAreVisibleOnTheNextRead() {
+		int before = serviceService.getAllServices().size();
+		serviceService.getServicesByCategory("Training");
+		Long id = serviceService.saveService(service("Spring Boot Bootcamp", "Training")).getId();
+		assertThat(serviceService.getAllServices()).hasSize(before + 1);
+		assertThat(serviceService.getServicesByCategory("Training")).extracting(Service::getId).contains(id);
+
+		assertThat(serviceService.patchService(id, Map.of("category", "Development"))).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(serviceService.getServiceById(id)).map(Service::getCategory).contains("Development");
+		assertThat(serviceService.getServicesByCategory("Training")).extracting(Service::getId).doesNotContain(id);
+		assertThat(serviceService.getServicesByCategory("Development")).extracting(Service::getId).contains(id);
+
+		assertThat(serviceService.deleteService(id, null)).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(serviceService.getServiceById(id)).isEmpty();
+		assertThat(serviceService.getAllServices()).hasSize(before);
+	}
+
+	@Test
+	void cachedMissIsReplacedWhenTheRowIsCreated() {
+		Long lastId = productService.saveProduct(product("Timetable Planner")).getId();
+		// Identity ids are handed out in order, so this is the id of the next product
+		Long nextId = lastId + 1;
+		assertThat(productService.getProductById(nextId)).isEmpty();
+
+		Product created = productService.saveProduct(product("Exam Scheduler"));
+		assertThat(created.getId()).isEqualTo(nextId);
+		assertThat(productService.getProductById(nextId)).map(Product::getName).contains("Exam Scheduler");
+	}
+
+	private static Product product(String name) {
+		Product product = new Product();
+		product.setName(name);
+		product.setShortDescription(name);
+		product.setDescription(name + " for coaching institutes.");
+		return product;
+	}
+
+	private static Service service(String name, String category) {
+		Service service = new Service();
+		service.setName(name);
+		service.setCategory(category);
+		service.setShortDescription(name);
+		service.setDescription(name + " for working professionals.");
+		return service;
+	}
+
+}
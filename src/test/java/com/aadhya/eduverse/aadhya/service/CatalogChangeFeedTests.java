@@ -0,0 +1,95 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.CatalogChange;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogChangeFeedTests {
+
+	private final CatalogChangeFeed feed = new CatalogChangeFeed(3, 16);
+
+	@Test
+	void liveSubscribersReceiveNumberedChanges() {
+		StepVerifier.create(feed.changesAfter(null))
+				.then(() -> feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.CREATED, 7L)))
+				.then(() -> feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.SERVICE, CatalogChangeType.DELETED, 3L)))
+				.assertNext(change -> {
+					assertThat(change.getSequence()).isEqualTo(1);
+					assertThat(change.getEntityType()).isEqualTo(CatalogEntityType.PRODUCT);
+					assertThat(change.getChangeType()).isEqualTo(CatalogChangeType.CREATED);
+					assertThat(change.getEntityId()).isEqualTo(7L);
+				})
+				.assertNext(change -> assertThat(change.getSequence()).isEqualTo(2))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+		assertThat(feed.subscriberCount()).isZero();
+	}
+
+	@Test
+	void resumeReplaysBufferedChangesThenContinuesLive() {
+		for (long id = 1; id <= 4; id++) {
+			feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.UPDATED, id));
+		}
+
+		StepVerifier.create(feed.changesAfter(2L).map(CatalogChange::getSequence))
+				.expectNext(3L, 4L)
+				.then(() -> feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.UPDATED, 5L)))
+				.expectNext(5L)
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void resumeIsReadFromTheRingAndOnlyNewChangesCountAsPending() {
+		CatalogChangeFeed feed = new CatalogChangeFeed(64, 4);
+		for (long id = 1; id <= 20; id++) {
+			feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.UPDATED, id));
+		}
+
+		// Twenty replayed changes do not overflow a subscriber allowed four pending ones
+		StepVerifier.create(feed.changesAfter(0L).map(CatalogChange::getSequence), 0)
+				.thenRequest(20)
+				.expectNextSequence(LongStream.rangeClosed(1, 20).boxed().toList())
+				.then(() -> {
+					for (long id = 21; id <= 24; id++) {
+						feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.UPDATED, id));
+					}
+				})
+				.thenRequest(1)
+				.expectNext(21L)
+				.then(() -> {
+					for (long id = 25; id <= 26; id++) {
+						feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.UPDATED, id));
+					}
+				})
+				.expectError(IllegalStateException.class)
+				.verify(Duration.ofSeconds(5));
+		assertThat(feed.subscriberCount()).isZero();
+	}
+
+	@Test
+	void resumePointOutsideTheBufferAsksForAFullReload() {
+		for (long id = 1; id <= 5; id++) {
+			feed.onCatalogChanged(new CatalogChangedEvent(CatalogEntityType.SERVICE, CatalogChangeType.UPDATED, id));
+		}
+
+		StepVerifier.create(feed.changesAfter(feed.sequenceOf(feed.eventId(new CatalogChange(1, null, null, null, null)))))
+				.assertNext(change -> {
+					assertThat(change.getSequence()).isEqualTo(5);
+					assertThat(change.getEntityType()).isNull();
+					assertThat(change.getChangeType()).isEqualTo(CatalogChangeType.RELOADED);
+				})
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+		assertThat(feed.sequenceOf("0-5")).isEqualTo(-1);
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.AadhyaApplication;
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.model.CompanyInfo;
+import com.aadhya.eduverse.aadhya.model.Product;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// Two application instances sharing one in-memory database, standing in for two nodes
+class CatalogCoherenceTests {
+
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	@BeforeAll
+	static void startNodes() {
+		nodeA = startNode();
+		nodeB = startNode();
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		if (nodeB != null) {
+			nodeB.close();
+		}
+		if (nodeA != null) {
+			nodeA.close();
+		}
+	}
+
+	@Test
+	void writeOnOneNodeInvalidatesCachesOnTheOther() {
+		ProductService productsA = nodeA.getBean(ProductService.class);
+		ProductService productsB = nodeB.getBean(ProductService.class);
+		int before = productsB.getAllProducts().size();
+
+		Product created = new Product();
+		created.setName("Timetable Planner");
+		created.setShortDescription("Plans batch timetables");
+		created.setDescription("Builds conflict-free timetables for every batch.");
+		Long id = productsA.saveProduct(created).getId();
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> productsB.getAllProducts().size() == before + 1);
+
+		assertThat(productsB.getProductById(id)).map(Product::getName).contains("Timetable Planner");
+		assertThat(productsA.patchProduct(id, Map.of("name", "Timetable Planner 2"))).isEqualTo(WriteOutcome.APPLIED);
+		await().atMost(Duration.ofSeconds(5)).until(() -> productsB.getProductById(id)
+				.map(Product::getName)
+				.filter("Timetable Planner 2"::equals)
+				.isPresent());
+
+		// Both nodes caught up with the same writes, so they validate each other's ETags
+		CatalogChangePublisher publisherA = nodeA.getBean(CatalogChangePublisher.class);
+		CatalogChangePublisher publisherB = nodeB.getBean(CatalogChangePublisher.class);
+		await().atMost(Duration.ofSeconds(5)).until(() -> publisherB.currentTag() != null
+				&& publisherB.currentTag().equals(publisherA.currentTag()));
+	}
+
+	@Test
+	void companyInfoSavedOnOneNodeIsServedByTheOther() {
+		CompanyInfoService companyA = nodeA.getBean(CompanyInfoService.class);
+		CompanyInfoService companyB = nodeB.getBean(CompanyInfoService.class);
+		CompanyInfoDTO current = companyB.getCompanyInfo().orElseThrow();
+
+		companyA.saveCompanyInfo(new CompanyInfo(null, current.getName(), "Learning that works", current.getAbout(),
+				current.getEmail(), current.getPhone(), current.getAddress(), current.getLogoUrl(), current.getWebsiteUrl()));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> "Learning that works".equals(
+				companyB.getCompanyInfo().orElseThrow().getTagline()));
+	}
+
+	private static ConfigurableApplicationContext startNode() {
+		return new SpringApplicationBuilder(AadhyaApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				// Arguments rather than default properties, which the test profile would override
+				.run("--spring.datasource.url=jdbc:h2:mem:aadhya-coherence;DB_CLOSE_DELAY=-1",
+						// The second node must not drop the first node's schema
+						"--spring.jpa.hibernate.ddl-auto=update",
+						"--app.catalog.coherence.poll-interval-ms=100");
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.aadhya.eduverse.aadhya.service.CatalogSearchIndex.DocKey;
+import com.aadhya.eduverse.aadhya.service.CatalogSearchIndex.Hit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSearchIndexTests {
+
+	private static final DocKey JAVA = new DocKey(CatalogEntityType.SERVICE, 1);
+	private static final DocKey PYTHON = new DocKey(CatalogEntityType.SERVICE, 2);
+	private static final DocKey LMS = new DocKey(CatalogEntityType.PRODUCT, 1);
+
+	private CatalogSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new CatalogSearchIndex();
+		index.put(JAVA, "Java Programming Training", "Training", "Java from basics to advanced", "Covers collections and multithreading.", null);
+		index.put(PYTHON, "Python for Data Science", "Training", "Python for data analysis", "Includes a short Java interop module.", null);
+		index.put(LMS, "EduVerse LMS", null, "Learning management system", "Course management and programming assignments.", null);
+	}
+
+	@Test
+	void nameMatchesOutrankDescriptionMatches() {
+		assertThat(keys(index.search("java", null, 10, false))).containsExactly(JAVA, PYTHON);
+	}
+
+	@Test
+	void lastWordIsExpandedAsPrefixAndAllWordsMustMatch() {
+		assertThat(keys(index.search("progr", null, 10, true))).containsExactlyInAnyOrder(JAVA, LMS);
+		assertThat(keys(index.search("progr", null, 10, false))).isEmpty();
+		assertThat(keys(index.search("training pyth", null, 10, true))).containsExactly(PYTHON);
+		assertThat(keys(index.search("progr", CatalogEntityType.PRODUCT, 10, true))).containsExactly(LMS);
+	}
+
+	@Test
+	void shortPrefixesKeepTheirMostCommonCompletions() {
+		// 200 one-off codes sort before the word most documents share
+		for (int i = 0; i < 200; i++) {
+			index.put(new DocKey(CatalogEntityType.PRODUCT, 100 + i), String.format("Kit ka%03d", i), null, null, null, null);
+		}
+		DocKey kaizenFirst = new DocKey(CatalogEntityType.SERVICE, 10);
+		DocKey kaizenSecond = new DocKey(CatalogEntityType.SERVICE, 11);
+		index.put(kaizenFirst, "Kaizen Workshop", "Training", null, null, null);
+		index.put(kaizenSecond, "Kaizen for Schools", "Training", null, null, null);
+
+		List<Hit> hits = index.search("ka", null, 500, true);
+		assertThat(keys(hits)).contains(kaizenFirst, kaizenSecond);
+		// Capped: not every one-off code made it in
+		assertThat(hits).hasSizeLessThan(202);
+		// The word typed so far is kept even when rarer than every capped completion
+		assertThat(keys(index.search("ka000", null, 500, true))).containsExactly(new DocKey(CatalogEntityType.PRODUCT, 100));
+	}
+
+	@Test
+	void updatesAndRemovalsApplyIncrementally() {
+		index.put(PYTHON, "Python Bootcamp", "Training", "Intensive Python", "No other languages.", null);
+		assertThat(keys(index.search("java", null, 10, false))).containsExactly(JAVA);
+
+		index.remove(JAVA);
+		assertThat(index.search("java", null, 10, false)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	void highlightEscapesHtmlAndMarksMatches() {
+		assertThat(CatalogSearchIndex.highlight("Java <b>& Spring</b>", Set.of("java", "spring")))
+				.isEqualTo("<em>Java</em> &lt;b&gt;&amp; <em>Spring</em>&lt;/b&gt;");
+	}
+
+	private static List<DocKey> keys(List<Hit> hits) {
+		return hits.stream().map(hit -> hit.document().key()).toList();
+	}
+
+}
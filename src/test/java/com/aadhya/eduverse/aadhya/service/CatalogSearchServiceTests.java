@@ -0,0 +1,81 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.SearchHit;
+import com.aadhya.eduverse.aadhya.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSearchServiceTests {
+
+	@Autowired
+	private CatalogSearchService catalogSearchService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void invalidationWithoutIdsRereadsOnlyRowsWhoseVersionMoved() {
+		Long renamed = productService.saveProduct(product("Hostel Desk")).getId();
+		Long untouched = productService.saveProduct(product("Library Desk")).getId();
+		Long deleted = productService.saveProduct(product("Transport Desk")).getId();
+		assertThat(names("desk")).contains("Hostel Desk", "Library Desk", "Transport Desk");
+
+		// Writes made on another node: versioned, as every write through the services is
+		jdbcTemplate.update("UPDATE product SET name = 'Hostel Console', version = version + 1 WHERE id = ?", renamed);
+		jdbcTemplate.update("DELETE FROM product WHERE id = ?", deleted);
+		jdbcTemplate.update("INSERT INTO product (name, short_description, description, version) VALUES (?, ?, ?, 0)",
+				"Canteen Desk", "Canteen Desk", "Canteen Desk for coaching institutes.");
+		// Not versioned, so only a full reload would see it
+		jdbcTemplate.update("UPDATE product SET name = 'Library Console' WHERE id = ?", untouched);
+
+		productService.invalidateAll();
+
+		assertThat(names("desk")).contains("Library Desk", "Canteen Desk").doesNotContain("Hostel Desk", "Transport Desk");
+		assertThat(names("console")).contains("Hostel Console").doesNotContain("Library Console");
+	}
+
+	@Test
+	void writesOnlyMarkTheIndexDirtyAfterCommitAndTheNextSearchAppliesThem() {
+		assertThat(names("almanac")).isEmpty();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			productService.saveProduct(product("Almanac Builder"));
+			// Nothing to apply until the row is committed
+			assertThat(catalogSearchService.hasPendingChanges()).isFalse();
+		});
+		// The writer did not touch the index
+		assertThat(catalogSearchService.hasPendingChanges()).isTrue();
+
+		assertThat(names("almanac")).containsExactly("Almanac Builder");
+		assertThat(catalogSearchService.hasPendingChanges()).isFalse();
+	}
+
+	private List<String> names(String query) {
+		return catalogSearchService.search(query, "product", 50, false).stream().map(SearchHit::getName).toList();
+	}
+
+	private static Product product(String name) {
+		Product product = new Product();
+		product.setName(name);
+		product.setShortDescription(name);
+		product.setDescription(name + " for coaching institutes.");
+		return product;
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.config.ReadReplicaRouting;
+import com.aadhya.eduverse.aadhya.event.CatalogChangePublisher;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogVersionsTests {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+
+	@Test
+	void bumpIsOneStatementReturningTheNewVersion() {
+		CatalogVersions catalogVersions = catalogVersions();
+		long first = catalogVersions.bump(CatalogEntityType.SERVICE);
+		statements.clear();
+
+		long second = catalogVersions.bump(CatalogEntityType.SERVICE);
+
+		assertThat(second).isEqualTo(first + 1);
+		assertThat(statements).hasSize(1);
+		assertThat(catalogVersions.read()).containsEntry(CatalogEntityType.SERVICE, second);
+	}
+
+	@Test
+	void missingRowIsCreatedAtVersionOne() {
+		CatalogVersions catalogVersions = catalogVersions();
+		long before = catalogVersions.bump(CatalogEntityType.COMPANY_INFO);
+		jdbcTemplate.update("DELETE FROM catalog_version WHERE entity_type = ?", CatalogEntityType.COMPANY_INFO.name());
+		try {
+			assertThat(catalogVersions.bump(CatalogEntityType.COMPANY_INFO)).isEqualTo(1);
+			assertThat(catalogVersions.bump(CatalogEntityType.COMPANY_INFO)).isEqualTo(2);
+		} finally {
+			// Forward again, so that nothing polling this database sees the counter go back
+			jdbcTemplate.update("UPDATE catalog_version SET version = ? WHERE entity_type = ?",
+					before + 1, CatalogEntityType.COMPANY_INFO.name());
+		}
+	}
+
+	// Outside a transaction, so nothing is published; records every statement prepared
+	private CatalogVersions catalogVersions() {
+		DataSource recording = new DelegatingDataSource(dataSource) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				Connection connection = super.getConnection();
+				return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+						(proxy, method, args) -> {
+							if (method.getName().equals("prepareStatement")) {
+								statements.add((String) args[0]);
+							}
+							try {
+								return method.invoke(connection, args);
+							} catch (InvocationTargetException e) {
+								throw e.getCause();
+							}
+						});
+			}
+		};
+		return new CatalogVersions(new JdbcTemplate(recording), new CatalogChangePublisher(event -> {
+		}), new StaticListableBeanFactory().getBeanProvider(ReadReplicaRouting.class));
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.CompanyInfoDTO;
+import com.aadhya.eduverse.aadhya.model.CompanyInfo;
+import com.aadhya.eduverse.aadhya.repository.CompanyInfoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CompanyInfoServiceTests {
+
+	@Autowired
+	private CompanyInfoService companyInfoService;
+
+	@Autowired
+	private CompanyInfoRepository companyInfoRepository;
+
+	@Test
+	void saveUpdatesTheSingletonRowAndSwapsTheHeldRecord() {
+		CompanyInfoDTO before = companyInfoService.getCompanyInfo().orElseThrow();
+		long rows = companyInfoRepository.count();
+
+		CompanyInfo update = new CompanyInfo(null, "Aadhya Eduverse Pvt Ltd", before.getTagline(), "Updated about text.",
+				before.getEmail(), before.getPhone(), before.getAddress(), before.getLogoUrl(), before.getWebsiteUrl());
+		CompanyInfoDTO saved = companyInfoService.saveCompanyInfo(update);
+
+		assertThat(companyInfoRepository.count()).isEqualTo(Math.max(rows, 1));
+		CompanyInfoDTO after = companyInfoService.getCompanyInfo().orElseThrow();
+		assertThat(after).isSameAs(saved);
+		assertThat(after.getName()).isEqualTo("Aadhya Eduverse Pvt Ltd");
+		assertThat(after.getAbout()).isEqualTo("Updated about text.");
+		assertThat(update.getId()).isNull();
+	}
+
+	@Test
+	void readsShareOnePublishedRecordThatSaversCannotChange() {
+		CompanyInfoDTO first = companyInfoService.getCompanyInfo().orElseThrow();
+		assertThat(companyInfoService.getCompanyInfo().orElseThrow()).isSameAs(first);
+		assertThat(first.getAbout()).isNotNull();
+
+		CompanyInfo update = new CompanyInfo(null, first.getName(), first.getTagline(), first.getAbout(),
+				first.getEmail(), first.getPhone(), first.getAddress(), first.getLogoUrl(), first.getWebsiteUrl());
+		CompanyInfoDTO saved = companyInfoService.saveCompanyInfo(update);
+		update.setName("Changed by the saver");
+		assertThat(companyInfoService.getCompanyInfo().orElseThrow().getName()).isEqualTo(first.getName());
+
+		// Deleted behind the service's back: the remembered id is gone, so the built-in default is served
+		companyInfoRepository.deleteAll();
+		companyInfoService.invalidate();
+		try {
+			CompanyInfoDTO fallback = companyInfoService.getCompanyInfo().orElseThrow();
+			assertThat(fallback.getId()).isNull();
+			assertThat(fallback.getName()).isEqualTo("Aadhya Eduverse");
+		} finally {
+			CompanyInfoDTO recreated = companyInfoService.saveCompanyInfo(update);
+			assertThat(recreated.getId()).isNotEqualTo(saved.getId());
+			assertThat(companyInfoRepository.count()).isEqualTo(1);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ProductService productService;
+
+	@Test
+	void matchingIfNoneMatchIsAnsweredWith304UntilTheCatalogChanges() throws Exception {
+		String etag = mockMvc.perform(get("/api/products"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotBlank();
+
+		mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		// One tag for the whole catalog, so it also validates other catalog resources
+		mockMvc.perform(get("/api/home").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		Product product = new Product();
+		product.setName("Library Manager");
+		product.setShortDescription("Library Manager");
+		product.setDescription("Tracks issued books per student.");
+		productService.saveProduct(product);
+
+		String changed = mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("Library Manager")))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(changed).isNotBlank().isNotEqualTo(etag);
+	}
+
+	@Test
+	void writesAndOtherMethodsAreNotValidated() throws Exception {
+		String etag = mockMvc.perform(get("/api/services"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, etag));
+		mockMvc.perform(delete("/api/services/{id}", Long.MAX_VALUE)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotFound());
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.ContactFormDTO;
+import com.aadhya.eduverse.aadhya.model.ContactMessage;
+import com.aadhya.eduverse.aadhya.model.ContactMessageStatus;
+import com.aadhya.eduverse.aadhya.repository.ContactMessageRepository;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ContactOutboxServiceTests {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+			.withConfiguration(GreenMailConfiguration.aConfig().withUser("outbox@aadhya.test", "secret"));
+
+	@Autowired
+	private ContactOutboxService contactOutboxService;
+
+	@Autowired
+	private ContactMessageRepository contactMessageRepository;
+
+	@Test
+	void queuedMessageIsDeliveredOverSmtp() throws Exception {
+		Long id = contactOutboxService.enqueue(new ContactFormDTO(
+				"Asha Verma", "asha@example.com", "Java batch enquiry", "Please share the next Java batch timings."));
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> contactMessageRepository.findById(id)
+				.map(ContactMessage::getStatus)
+				.orElse(null) == ContactMessageStatus.SENT);
+
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertThat(received).hasSize(1);
+		assertThat(received[0].getSubject()).isEqualTo("[Contact Form] Java batch enquiry");
+		assertThat(contactMessageRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentDuplicateSubmissionsShareOneOutboxRow() throws Exception {
+		ContactFormDTO form = new ContactFormDTO(
+				"Ravi Kumar", "ravi@example.com", "Data science fees", "What are the fees for the data science course?");
+		long before = contactMessageRepository.count();
+
+		List<Callable<Long>> submissions = IntStream.range(0, 8)
+				.<Callable<Long>>mapToObj(i -> () -> contactOutboxService.enqueue(form, null))
+				.toList();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Long> ids = executor.invokeAll(submissions).stream().map(future -> {
+				try {
+					return future.get();
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}).toList();
+			assertThat(ids).containsOnly(ids.get(0));
+			awaitSent(ids.get(0));
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(contactMessageRepository.count()).isEqualTo(before + 1);
+		assertThat(greenMail.getReceivedMessages()).hasSize(1);
+	}
+
+	@Test
+	void idempotencyKeyWinsOverMessageContent() {
+		Long first = contactOutboxService.enqueue(new ContactFormDTO(
+				"Meera Nair", "meera@example.com", "Batch timings", "Is there a weekend batch for Java?"), "retry-7f3a");
+		Long retried = contactOutboxService.enqueue(new ContactFormDTO(
+				"Meera Nair", "meera@example.com", "Batch timings", "Is there a weekend batch for Java??"), "retry-7f3a");
+		Long fresh = contactOutboxService.enqueue(new ContactFormDTO(
+				"Meera Nair", "meera@example.com", "Batch timings", "Is there a weekend batch for Java??"), null);
+
+		assertThat(retried).isEqualTo(first);
+		assertThat(fresh).isNotEqualTo(first);
+		awaitSent(first);
+		awaitSent(fresh);
+	}
+
+	@Test
+	void duplicatesIgnoreEmailCaseAndWhitespaceButNotMessageCase() {
+		Long first = contactOutboxService.enqueue(new ContactFormDTO(
+				"Kiran Rao", "Kiran@Example.com", "Fees", "Is the AI course\nfee payable in parts?"), null);
+		Long resubmitted = contactOutboxService.enqueue(new ContactFormDTO(
+				" Kiran  Rao", "kiran@example.com ", "Fees", "Is the AI course fee  payable in parts?"), null);
+		Long shouted = contactOutboxService.enqueue(new ContactFormDTO(
+				"Kiran Rao", "kiran@example.com", "Fees", "IS THE AI COURSE FEE PAYABLE IN PARTS?"), null);
+
+		assertThat(resubmitted).isEqualTo(first);
+		assertThat(shouted).isNotEqualTo(first);
+		awaitSent(first);
+		awaitSent(shouted);
+	}
+
+	@Test
+	void resubmissionsDoNotSpendTheSendersRateLimit() {
+		ContactFormDTO form = new ContactFormDTO(
+				"Priya Shah", "priya@example.com", "Brochure", "Could you send the course brochure?");
+		Long first = contactOutboxService.enqueue(form, null);
+		for (int i = 0; i < 4; i++) {
+			assertThat(contactOutboxService.enqueue(form, null)).isEqualTo(first);
+		}
+
+		// Three per sender: the duplicates above were free
+		contactOutboxService.enqueue(new ContactFormDTO(
+				"Priya Shah", "priya@example.com", "Brochure", "Also the fee structure, please."), null);
+		contactOutboxService.enqueue(new ContactFormDTO(
+				"Priya Shah", "priya@example.com", "Brochure", "And the batch calendar."), null);
+		assertThatThrownBy(() -> contactOutboxService.enqueue(new ContactFormDTO(
+				"Priya Shah", "priya@example.com", "Brochure", "One more question."), null))
+				.isInstanceOf(ContactOutboxService.SenderRateLimitedException.class);
+		// A limited submission is not remembered as a duplicate
+		assertThatThrownBy(() -> contactOutboxService.enqueue(new ContactFormDTO(
+				"Priya Shah", "priya@example.com", "Brochure", "One more question."), null))
+				.isInstanceOf(ContactOutboxService.SenderRateLimitedException.class);
+	}
+
+	private void awaitSent(Long id) {
+		await().atMost(Duration.ofSeconds(10)).until(() -> contactMessageRepository.findById(id)
+				.map(ContactMessage::getStatus)
+				.orElse(null) == ContactMessageStatus.SENT);
+	}
+
+}
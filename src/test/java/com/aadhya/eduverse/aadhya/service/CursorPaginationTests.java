@@ -0,0 +1,92 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.CursorPage;
+import com.aadhya.eduverse.aadhya.dto.ProductSummary;
+import com.aadhya.eduverse.aadhya.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.catalog.page.max-size=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CursorPaginationTests {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void followingNextCursorVisitsEveryRowOnceInIdOrder() {
+		List<Long> allIds = productService.getAllProducts().stream().map(Product::getId).sorted().toList();
+		assertThat(allIds).hasSizeGreaterThan(2);
+
+		List<Long> visited = new ArrayList<>();
+		Long cursor = null;
+		CursorPage<ProductSummary> page;
+		do {
+			page = productService.getProductSummaries(cursor, 2);
+			List<Long> ids = page.getItems().stream().map(ProductSummary::getId).toList();
+			visited.addAll(ids);
+			if (page.isHasMore()) {
+				assertThat(ids).hasSize(2);
+				assertThat(page.getNextCursor()).isEqualTo(ids.get(ids.size() - 1));
+			}
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(visited).isEqualTo(allIds);
+		assertThat(page.isHasMore()).isFalse();
+	}
+
+	@Test
+	void lastPageEndsWithoutAnEmptyPageAfterIt() {
+		List<Long> allIds = productService.getAllProducts().stream().map(Product::getId).sorted().toList();
+		Long secondLast = allIds.get(allIds.size() - 2);
+
+		// Exactly as many rows left as the page size: no cursor to a page that would be empty
+		CursorPage<ProductSummary> last = productService.getProductSummaries(secondLast, 1);
+		assertThat(last.getItems()).extracting(ProductSummary::getId).containsExactly(allIds.get(allIds.size() - 1));
+		assertThat(last.getNextCursor()).isNull();
+
+		CursorPage<ProductSummary> beyond = productService.getProductSummaries(allIds.get(allIds.size() - 1), 2);
+		assertThat(beyond.getItems()).isEmpty();
+		assertThat(beyond.isHasMore()).isFalse();
+	}
+
+	@Test
+	void pageSizeIsClampedToTheConfiguredRange() {
+		assertThat(productService.getProductSummaries(null, 0).getItems()).hasSize(1);
+		assertThat(productService.getProductSummaries(null, -5).getItems()).hasSize(1);
+		assertThat(productService.getProductSummaries(null, 10_000).getItems()).hasSize(3);
+	}
+
+	@Test
+	void pageEndpointsRejectMalformedParameters() throws Exception {
+		mockMvc.perform(get("/api/products/page").param("after", "abc"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/services/page").param("size", "many"))
+				.andExpect(status().isBadRequest());
+
+		mockMvc.perform(get("/api/services/page").param("size", "2").param("view", "full"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].category").exists())
+				.andExpect(jsonPath("$.hasMore").value(true))
+				.andExpect(jsonPath("$.nextCursor").isNumber());
+	}
+
+}
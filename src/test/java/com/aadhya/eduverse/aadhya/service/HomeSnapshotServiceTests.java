@@ -0,0 +1,129 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.HomeSnapshot;
+import com.aadhya.eduverse.aadhya.event.CatalogChangeType;
+import com.aadhya.eduverse.aadhya.event.CatalogChangedEvent;
+import com.aadhya.eduverse.aadhya.event.CatalogEntityType;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HomeSnapshotServiceTests {
+
+	private final CompanyInfoService companyInfoService = mock(CompanyInfoService.class);
+	private final ProductService productService = mock(ProductService.class);
+	private final ServiceService serviceService = mock(ServiceService.class);
+	private HomeSnapshotService homeSnapshotService;
+
+	@BeforeEach
+	void setUp() {
+		when(companyInfoService.getCompanyInfo()).thenReturn(Optional.empty());
+		when(productService.getAllProducts()).thenReturn(List.of(product("Exam Portal")));
+		when(serviceService.getServicesByCategory(anyString())).thenReturn(List.of());
+		when(serviceService.getCategories()).thenReturn(List.of());
+		homeSnapshotService = new HomeSnapshotService(companyInfoService, productService, serviceService, new ObjectMapper());
+	}
+
+	@Test
+	void writesOnlyMarkTheSnapshotStaleAndTheNextReadRebuildsIt() {
+		HomeSnapshot first = homeSnapshotService.getSnapshot();
+		assertThat(homeSnapshotService.getSnapshot()).isSameAs(first);
+		assertThat(body(first)).contains("Exam Portal");
+
+		when(productService.getAllProducts()).thenReturn(List.of(product("Exam Portal"), product("Fee Manager")));
+		homeSnapshotService.onCatalogChanged(productCreated());
+		verify(productService, times(1)).getAllProducts();
+
+		HomeSnapshot second = homeSnapshotService.getSnapshot();
+		assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1);
+		assertThat(body(second)).contains("Fee Manager");
+		assertThat(homeSnapshotService.getSnapshot()).isSameAs(second);
+		verify(productService, times(2)).getAllProducts();
+	}
+
+	@Test
+	void failedRebuildKeepsServingTheLastSnapshot() {
+		// Nothing to fall back on yet
+		doThrow(new IllegalStateException("database down")).when(productService).getAllProducts();
+		assertThatThrownBy(homeSnapshotService::getSnapshot).hasMessage("database down");
+
+		doReturn(List.of(product("Exam Portal"))).when(productService).getAllProducts();
+		HomeSnapshot good = homeSnapshotService.getSnapshot();
+
+		doThrow(new IllegalStateException("database down")).when(productService).getAllProducts();
+		homeSnapshotService.onCatalogChanged(productCreated());
+		assertThat(homeSnapshotService.getSnapshot()).isSameAs(good);
+
+		// Still stale, so the first read after recovery rebuilds
+		doReturn(List.of(product("Fee Manager"))).when(productService).getAllProducts();
+		assertThat(body(homeSnapshotService.getSnapshot())).contains("Fee Manager");
+	}
+
+	@Test
+	void concurrentReadersOfAStaleSnapshotShareOneRebuild() throws Exception {
+		CountDownLatch rebuilding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(productService.getAllProducts()).thenAnswer(invocation -> {
+			rebuilding.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of(product("Exam Portal"));
+		});
+
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<HomeSnapshot>> results = new ArrayList<>();
+			results.add(readers.submit(homeSnapshotService::getSnapshot));
+			assertThat(rebuilding.await(5, TimeUnit.SECONDS)).isTrue();
+			for (int i = 0; i < 7; i++) {
+				results.add(readers.submit(homeSnapshotService::getSnapshot));
+			}
+			Thread.sleep(200); // let them queue up behind the rebuild
+			release.countDown();
+
+			HomeSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<HomeSnapshot> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+			}
+			verify(productService, times(1)).getAllProducts();
+		} finally {
+			readers.shutdownNow();
+		}
+	}
+
+	private static CatalogChangedEvent productCreated() {
+		return new CatalogChangedEvent(CatalogEntityType.PRODUCT, CatalogChangeType.CREATED, 1L);
+	}
+
+	private static String body(HomeSnapshot snapshot) {
+		return new String(snapshot.getBody(), StandardCharsets.UTF_8);
+	}
+
+	private static Product product(String name) {
+		Product product = new Product();
+		product.setName(name);
+		product.setShortDescription(name);
+		return product;
+	}
+
+}
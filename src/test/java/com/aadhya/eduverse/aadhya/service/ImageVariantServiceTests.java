@@ -0,0 +1,163 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.service.ImageVariantService.ImageVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ImageVariantServiceTests {
+
+	@TempDir
+	Path cacheDir;
+
+	// Every encode reads its source image exactly once
+	private final AtomicInteger sourceReads = new AtomicInteger();
+	private volatile CountDownLatch readGate = new CountDownLatch(0);
+
+	@Test
+	void widthsAreRoundedUpToABucketAndNeverUpscaled() throws IOException {
+		ImageVariantService service = service(cacheDir, Long.MAX_VALUE);
+
+		ImageVariant w500 = variant(service, "images/products/skilltrack.jpg", 500);
+		assertThat(w500.getFile().getFileName().toString()).contains("-640-").endsWith(".jpg");
+		assertThat(w500.getMediaType()).isEqualTo(MediaType.IMAGE_JPEG);
+		assertThat(width(w500)).isEqualTo(640);
+		assertThat(variant(service, "images/products/skilltrack.jpg", 640).getFile()).isEqualTo(w500.getFile());
+		assertThat(width(variant(service, "images/products/skilltrack.jpg", 641))).isEqualTo(960);
+
+		// No width and anything above the largest bucket share the largest bucket, capped at the source width
+		ImageVariant largest = variant(service, "images/products/skilltrack.jpg", null);
+		assertThat(largest.getFile().getFileName().toString()).contains("-1920-");
+		assertThat(width(largest)).isEqualTo(1024);
+		assertThat(variant(service, "images/products/skilltrack.jpg", 5000).getFile()).isEqualTo(largest.getFile());
+		assertThat(sourceReads).hasValue(3);
+
+		ImageVariant logo = variant(service, "images/logo.png", 640);
+		assertThat(logo.getMediaType()).isEqualTo(MediaType.IMAGE_PNG);
+		assertThat(width(logo)).isEqualTo(200);
+
+		assertThatThrownBy(() -> service.getVariant("../application.properties", null, "medium", false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> service.getVariant("images/logo.png", null, "best", false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(service.getVariant("images/missing.jpg", null, "medium", false)).isEmpty();
+	}
+
+	@Test
+	void byteCapEvictsLeastRecentlyUsedVariantsAfterTheGracePeriod() throws IOException {
+		long firstSize = Files.size(variant(service(cacheDir.resolve("sizing"), Long.MAX_VALUE), "images/about-image.jpg", 320).getFile());
+		sourceReads.set(0);
+
+		// Room for the first variant only
+		ImageVariantService service = service(cacheDir, firstSize + 1);
+		Path first = variant(service, "images/about-image.jpg", 320).getFile();
+		Path second = variant(service, "images/about-image.jpg", 640).getFile();
+
+		// Evicted, but a request may still be about to open it
+		assertThat(first).exists();
+		service.deleteEvictedVariants();
+		assertThat(first).doesNotExist();
+		assertThat(second).exists();
+
+		// Requested again before the sweep: taken back rather than deleted or re-encoded
+		Path third = variant(service, "images/about-image.jpg", 960).getFile();
+		assertThat(variant(service, "images/about-image.jpg", 640).getFile()).isEqualTo(second);
+		service.deleteEvictedVariants();
+		assertThat(second).exists();
+		assertThat(third).doesNotExist();
+		assertThat(sourceReads).hasValue(3);
+
+		// Deleted for good: encoded again into the same file
+		assertThat(variant(service, "images/about-image.jpg", 960).getFile()).isEqualTo(third).exists();
+		assertThat(sourceReads).hasValue(4);
+	}
+
+	@Test
+	void variantsSurviveARestartWithinTheCap() throws IOException {
+		Path encoded = variant(service(cacheDir, Long.MAX_VALUE), "images/products/skilltrack.jpg", 320).getFile();
+
+		ImageVariantService restarted = service(cacheDir, Long.MAX_VALUE);
+		assertThat(variant(restarted, "images/products/skilltrack.jpg", 320).getFile()).isEqualTo(encoded);
+		assertThat(sourceReads).hasValue(1);
+	}
+
+	@Test
+	void concurrentRequestsForOneVariantShareOneEncode() throws Exception {
+		ImageVariantService service = service(cacheDir, Long.MAX_VALUE);
+		CountDownLatch release = new CountDownLatch(1);
+		readGate = release;
+
+		ExecutorService requests = Executors.newFixedThreadPool(6);
+		try {
+			List<Future<ImageVariant>> results = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				results.add(requests.submit(() -> variant(service, "images/products/explainable-ai.jpg", 960)));
+			}
+			await().atMost(Duration.ofSeconds(5)).until(() -> sourceReads.get() == 1);
+			Thread.sleep(200); // let the others queue up behind the encode
+			release.countDown();
+
+			Path file = results.get(0).get(10, TimeUnit.SECONDS).getFile();
+			for (Future<ImageVariant> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS).getFile()).isEqualTo(file);
+			}
+			assertThat(sourceReads).hasValue(1);
+			assertThat(width(results.get(0).get())).isEqualTo(960);
+		} finally {
+			requests.shutdownNow();
+		}
+	}
+
+	// No grace period: evicted files go at the next deleteEvictedVariants()
+	private ImageVariantService service(Path dir, long maxCacheBytes) throws IOException {
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader() {
+			@Override
+			public Resource getResource(String location) {
+				return new ClassPathResource(location.substring("classpath:".length())) {
+					@Override
+					public InputStream getInputStream() throws IOException {
+						sourceReads.incrementAndGet();
+						try {
+							readGate.await(5, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return super.getInputStream();
+					}
+				};
+			}
+		};
+		return new ImageVariantService(resourceLoader, dir.toString(), maxCacheBytes, 2, 0);
+	}
+
+	private static ImageVariant variant(ImageVariantService service, String path, Integer width) {
+		return service.getVariant(path, width, "medium", false).orElseThrow();
+	}
+
+	private static int width(ImageVariant variant) throws IOException {
+		return ImageIO.read(variant.getFile().toFile()).getWidth();
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.support.RecordingStatementInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LazyDescriptionLoadingTests {
+
+	// The LOB column itself, not short_description
+	private static final Pattern DESCRIPTION_COLUMN = Pattern.compile("[^_]description");
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void clearCaches() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	void listQuerySkipsDescriptionLob() throws Exception {
+		RecordingStatementInspector.start();
+		List<Product> products = productService.getAllProducts();
+		List<String> statements = productStatements(RecordingStatementInspector.stop());
+
+		assertThat(products).isNotEmpty();
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0)).doesNotContainPattern(DESCRIPTION_COLUMN);
+		assertThat(objectMapper.writeValueAsString(products))
+				.contains("shortDescription")
+				.doesNotContain("\"description\"");
+	}
+
+	@Test
+	void detailQueryLoadsDescriptionLob() throws Exception {
+		Long id = productService.getAllProducts().get(0).getId();
+		clearCaches();
+
+		RecordingStatementInspector.start();
+		Product product = productService.getProductById(id).orElseThrow();
+		List<String> statements = productStatements(RecordingStatementInspector.stop());
+
+		assertThat(statements).anyMatch(sql -> DESCRIPTION_COLUMN.matcher(sql).find());
+		assertThat(objectMapper.writeValueAsString(product)).contains("\"description\"");
+	}
+
+	// Outbox polling runs concurrently, keep only the catalog statements
+	private static List<String> productStatements(List<String> statements) {
+		return statements.stream()
+				.map(sql -> sql.toLowerCase(Locale.ROOT))
+				.filter(sql -> sql.contains("product"))
+				.toList();
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.dto.ProductSummary;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.support.RecordingStatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.catalog.stream.page-size=1")
+@ActiveProfiles("test")
+class ReactiveCatalogServiceTests {
+
+	@Autowired
+	private ReactiveCatalogService reactiveCatalogService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Test
+	void streamsEveryProductAcrossPages() {
+		List<Long> expected = productService.getAllProducts().stream().map(Product::getId).sorted().toList();
+		assertThat(expected).hasSizeGreaterThan(1);
+
+		List<Long> streamed = reactiveCatalogService.streamProductSummaries()
+				.map(ProductSummary::getId)
+				.collectList()
+				.block(Duration.ofSeconds(10));
+
+		assertThat(streamed).isEqualTo(expected);
+	}
+
+	@Test
+	void fetchesNextPageOnlyOnDemand() {
+		RecordingStatementInspector.start();
+		StepVerifier.create(reactiveCatalogService.streamProductSummaries(), 1)
+				.expectNextCount(1)
+				.thenCancel()
+				.verify(Duration.ofSeconds(10));
+		List<String> statements = RecordingStatementInspector.stop().stream()
+				.map(sql -> sql.toLowerCase(Locale.ROOT))
+				.filter(sql -> sql.contains("product"))
+				.toList();
+
+		assertThat(statements).hasSize(1);
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.config.ReadReplicaRouting;
+import com.aadhya.eduverse.aadhya.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// Two embedded databases: the primary, and a replica that the test "replicates" to by copying a script of the primary
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:aadhya-primary;DB_CLOSE_DELAY=-1",
+		"app.datasource.replica.url=" + ReadReplicaRoutingTests.REPLICA_URL,
+		"app.datasource.replica.hikari.maximum-pool-size=4",
+		"app.datasource.replica.lag-check-interval-ms=100"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:aadhya-replica;DB_CLOSE_DELAY=-1";
+
+	private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ReadReplicaRouting replicaRouting;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void readsUseTheReplicaUntilAWriteOvertakesIt() {
+		replicate();
+		replica.update("UPDATE product SET name = CONCAT(name, ' (replica)')");
+		awaitReplicaUsable();
+
+		productService.invalidateAll();
+		assertThat(productService.getAllProducts()).isNotEmpty()
+				.allMatch(product -> product.getName().endsWith("(replica)"));
+		assertThat(meterRegistry.get("datasource.routed.connections").tag("target", "replica").counter().count())
+				.isPositive();
+		assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+
+		Product created = new Product();
+		created.setName("Attendance Tracker");
+		created.setShortDescription("Tracks attendance per batch");
+		created.setDescription("Marks and reports attendance for every batch.");
+		productService.saveProduct(created);
+
+		// The replica has not caught up with that write, so the writer reads it back from the primary
+		assertThat(replicaRouting.isReplicaUsable()).isFalse();
+		assertThat(productService.getAllProducts()).extracting(Product::getName)
+				.contains("Attendance Tracker")
+				.noneMatch(name -> name.endsWith("(replica)"));
+
+		replicate();
+		awaitReplicaUsable();
+		productService.invalidateAll();
+		assertThat(productService.getAllProducts()).extracting(Product::getName).contains("Attendance Tracker");
+	}
+
+	@Test
+	void replicaOutageFallsBackToThePrimary() {
+		replicate();
+		awaitReplicaUsable();
+
+		replica.execute("DROP ALL OBJECTS");
+		await().atMost(Duration.ofSeconds(5)).until(() -> !replicaRouting.isReplicaUsable());
+
+		productService.invalidateAll();
+		assertThat(productService.getAllProducts()).isNotEmpty();
+		assertThat(meterRegistry.get("datasource.routed.connections")
+				.tag("target", "primary").tag("read.only", "true").counter().count()).isPositive();
+	}
+
+	private void replicate() {
+		List<String> script = jdbcTemplate.queryForList("SCRIPT", String.class);
+		replica.execute("DROP ALL OBJECTS");
+		script.stream()
+				.filter(statement -> !statement.startsWith("--"))
+				.forEach(replica::execute);
+	}
+
+	private void awaitReplicaUsable() {
+		await().atMost(Duration.ofSeconds(5)).until(replicaRouting::isReplicaUsable);
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The migrate profile baselines a database that ddl-auto=update has been maintaining at V1,
+// so every later migration has to cope with a schema Hibernate may already have brought up to date
+// SQL Server compatibility mode, for the T-SQL in the migration scripts
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:schema-migration;MODE=MSSQLServer")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SchemaMigrationTests {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void migratesASchemaBuiltByHibernateFromTheCurrentEntities() {
+		Map<String, Long> versionsBefore = catalogVersions();
+		int products = count("product");
+
+		MigrateResult result = migrate();
+
+		assertThat(result.success).isTrue();
+		assertThat(result.migrations).extracting(migration -> migration.version).containsExactly("2", "3", "4");
+		assertThat(catalogVersions()).containsAllEntriesOf(versionsBefore)
+				.containsOnlyKeys("PRODUCT", "SERVICE", "COMPANY_INFO");
+		assertThat(count("product")).isEqualTo(products);
+		assertThat(migrate().migrationsExecuted).isZero();
+	}
+
+	@Test
+	void migratesASchemaBuiltByHibernateBeforeRowVersions() {
+		jdbcTemplate.execute("ALTER TABLE product DROP COLUMN version");
+		jdbcTemplate.execute("ALTER TABLE service DROP COLUMN version");
+		jdbcTemplate.execute("DROP TABLE catalog_version");
+		int products = count("product");
+
+		assertThat(migrate().success).isTrue();
+
+		assertThat(jdbcTemplate.queryForList("SELECT DISTINCT version FROM product", Long.class)).containsExactly(0L);
+		assertThat(jdbcTemplate.queryForList("SELECT DISTINCT version FROM service", Long.class)).containsExactly(0L);
+		assertThat(catalogVersions()).containsOnlyKeys("PRODUCT", "SERVICE", "COMPANY_INFO").containsValue(0L);
+		assertThat(count("product")).isEqualTo(products);
+	}
+
+	// Same settings as application-migrate.properties
+	private MigrateResult migrate() {
+		// The one SQL Server type H2 does not know
+		jdbcTemplate.execute("CREATE DOMAIN IF NOT EXISTS DATETIMEOFFSET AS TIMESTAMP(7) WITH TIME ZONE");
+		return Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration", "classpath:com/aadhya/eduverse/aadhya/migration")
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.load()
+				.migrate();
+	}
+
+	private Map<String, Long> catalogVersions() {
+		Map<String, Long> versions = new HashMap<>();
+		jdbcTemplate.query("SELECT entity_type, version FROM catalog_version",
+				rs -> {
+					versions.put(rs.getString(1), rs.getLong(2));
+				});
+		return versions;
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Service;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceCategoryIndexTests {
+
+	@Test
+	void lookupIgnoresCaseAndListsEveryCategory() {
+		Service java = service(1L, "Java Programming Training", "Training");
+		Service python = service(2L, "Python for Data Science", "training ");
+		Service web = service(3L, "Custom Website Development", "Development");
+		Service workshop = service(4L, "AI Workshop", "Workshops");
+
+		ServiceCategoryIndex index = ServiceCategoryIndex.of(List.of(java, python, web, workshop));
+
+		assertThat(index.find("TRAINING")).containsExactly(java, python);
+		assertThat(index.find("development")).containsExactly(web);
+		assertThat(index.find("Competitive Exam")).isEmpty();
+		assertThat(index.categories()).containsExactly("Development", "Training", "Workshops");
+	}
+
+	private static Service service(Long id, String name, String category) {
+		Service service = new Service();
+		service.setId(id);
+		service.setName(name);
+		service.setCategory(category);
+		return service;
+	}
+
+}
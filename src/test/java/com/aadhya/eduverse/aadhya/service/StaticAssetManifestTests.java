@@ -0,0 +1,72 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.config.JacksonConfig;
+import com.aadhya.eduverse.aadhya.config.StaticAssetCacheInterceptor;
+import com.aadhya.eduverse.aadhya.config.StaticAssetManifest;
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetManifestTests {
+
+	private final StaticAssetManifest manifest = new StaticAssetManifest(Map.of(
+			"/images/logo.png", "/images/logo-0123456789abcdef.png",
+			"/images/products/skilltrack.jpg", "/images/products/skilltrack-fedcba9876543210.jpg"));
+
+	@Test
+	void plainAndStaleHashedPathsResolveToTheCurrentHashedName() {
+		assertThat(manifest.versioned("/images/logo.png")).isEqualTo("/images/logo-0123456789abcdef.png");
+		assertThat(manifest.versioned("/images/logo-0123456789abcdef.png")).isEqualTo("/images/logo-0123456789abcdef.png");
+		// Sent back by a client that read it before the logo changed
+		assertThat(manifest.versioned("/images/logo-aaaaaaaaaaaaaaaa.png")).isEqualTo("/images/logo-0123456789abcdef.png");
+
+		assertThat(manifest.versioned("/images/missing.png")).isEqualTo("/images/missing.png");
+		assertThat(manifest.versioned("https://cdn.example.com/logo.png")).isEqualTo("https://cdn.example.com/logo.png");
+		assertThat(manifest.versioned(null)).isNull();
+
+		assertThat(manifest.digest()).isNotBlank();
+		assertThat(new StaticAssetManifest(Map.of()).digest()).isNull();
+	}
+
+	@Test
+	void onlyHashedNamesAreCachedAsImmutable() {
+		StaticAssetCacheInterceptor interceptor = new StaticAssetCacheInterceptor(manifest);
+
+		assertThat(cacheControl(interceptor, "/images/products/skilltrack-fedcba9876543210.jpg"))
+				.contains("max-age=31536000").contains("immutable");
+		assertThat(cacheControl(interceptor, "/images/products/skilltrack.jpg")).isEqualTo("no-cache");
+		assertThat(cacheControl(interceptor, "/index.html")).isEqualTo("no-cache");
+	}
+
+	@Test
+	void serializedImageUrlsUseTheHashedNameWithoutChangingTheEntity() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JacksonConfig().staticAssetUrlModule(manifest));
+		Product product = new Product();
+		product.setName("SkillTrack");
+		product.setImageUrl("/images/products/skilltrack.jpg");
+		product.setProductUrl("/images/logo.png");
+
+		Map<?, ?> json = objectMapper.readValue(objectMapper.writeValueAsBytes(product), Map.class);
+		assertThat(json.get("imageUrl")).isEqualTo("/images/products/skilltrack-fedcba9876543210.jpg");
+		// Only the image and logo fields are rewritten
+		assertThat(json.get("productUrl")).isEqualTo("/images/logo.png");
+		assertThat(product.getImageUrl()).isEqualTo("/images/products/skilltrack.jpg");
+
+		product.setImageUrl(null);
+		assertThat(objectMapper.readValue(objectMapper.writeValueAsBytes(product), Map.class).get("imageUrl")).isNull();
+	}
+
+	private static String cacheControl(StaticAssetCacheInterceptor interceptor, String path) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		interceptor.preHandle(new MockHttpServletRequest("GET", path), response, null);
+		return response.getHeader(HttpHeaders.CACHE_CONTROL);
+	}
+
+}
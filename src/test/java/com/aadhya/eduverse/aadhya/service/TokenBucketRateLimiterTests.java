@@ -0,0 +1,50 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTests {
+
+	private final AtomicLong clock = new AtomicLong(1_000);
+	private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(10), 1_000, clock::get);
+
+	@Test
+	void allowsBurstThenReportsWaitUntilNextToken() {
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isEqualTo(Duration.ofSeconds(10).toNanos());
+
+		clock.addAndGet(Duration.ofSeconds(4).toNanos());
+		assertThat(limiter.tryAcquire("a")).isEqualTo(Duration.ofSeconds(6).toNanos());
+
+		clock.addAndGet(Duration.ofSeconds(6).toNanos());
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isPositive();
+	}
+
+	@Test
+	void keysHaveIndependentBuckets() {
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("a");
+		}
+		assertThat(limiter.tryAcquire("a")).isPositive();
+		assertThat(limiter.tryAcquire("b")).isZero();
+	}
+
+	@Test
+	void idleKeyRefillsToFullCapacity() {
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("a");
+		}
+		clock.addAndGet(Duration.ofMinutes(5).toNanos());
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isPositive();
+	}
+}
@@ -0,0 +1,122 @@
+package com.aadhya.eduverse.aadhya.service;
+
+import com.aadhya.eduverse.aadhya.model.Product;
+import com.aadhya.eduverse.aadhya.support.RecordingStatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VersionedCatalogWriteTests {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private HomeSnapshotService homeSnapshotService;
+
+	@Test
+	void updateIsOneConditionalStatementAndRejectsStaleVersions() {
+		Product created = productService.saveProduct(product("Quiz Builder", "Builds quizzes from course notes."));
+		Long id = created.getId();
+		assertThat(created.getVersion()).isZero();
+
+		Product update = product("Quiz Builder Pro", "Builds adaptive quizzes from course notes.");
+		update.setId(id);
+		update.setVersion(0L);
+		// A built home snapshot must not be rebuilt on the write path
+		homeSnapshotService.getSnapshot();
+		RecordingStatementInspector.start();
+		assertThat(productService.updateProduct(update)).isEqualTo(WriteOutcome.APPLIED);
+		List<String> statements = productStatements(RecordingStatementInspector.stop());
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0)).startsWith("update");
+		assertThat(update.getVersion()).isEqualTo(1L);
+		assertThat(new String(homeSnapshotService.getSnapshot().getBody(), StandardCharsets.UTF_8)).contains("Quiz Builder Pro");
+
+		Product stale = product("Quiz Builder Lite", "Stale copy.");
+		stale.setId(id);
+		stale.setVersion(0L);
+		assertThat(productService.updateProduct(stale)).isEqualTo(WriteOutcome.VERSION_CONFLICT);
+
+		Product missing = product("Nothing", "No such product.");
+		missing.setId(Long.MAX_VALUE);
+		assertThat(productService.updateProduct(missing)).isEqualTo(WriteOutcome.NOT_FOUND);
+
+		Product stored = productService.getProductById(id).orElseThrow();
+		assertThat(stored.getName()).isEqualTo("Quiz Builder Pro");
+		assertThat(stored.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void patchSetsOnlyTheGivenFieldsAndDeleteHonoursTheVersion() {
+		Long id = productService.saveProduct(product("Attendance Tracker", "Tracks attendance per batch.")).getId();
+
+		assertThat(productService.patchProduct(id, Map.of("name", "Attendance Tracker 2", "version", 0)))
+				.isEqualTo(WriteOutcome.APPLIED);
+		Product patched = productService.getProductById(id).orElseThrow();
+		assertThat(patched.getName()).isEqualTo("Attendance Tracker 2");
+		assertThat(patched.getDescription()).isEqualTo("Tracks attendance per batch.");
+		assertThat(patched.getVersion()).isEqualTo(1L);
+
+		assertThatThrownBy(() -> productService.patchProduct(id, Map.of("id", 5)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(productService.deleteProduct(id, 0L)).isEqualTo(WriteOutcome.VERSION_CONFLICT);
+		assertThat(productService.deleteProduct(id, 1L)).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(productService.getProductById(id)).isEmpty();
+		assertThat(productService.deleteProduct(id, null)).isEqualTo(WriteOutcome.NOT_FOUND);
+	}
+
+	@Test
+	void unconditionalUpdateReportsTheStoredVersion() {
+		Long id = productService.saveProduct(product("Lesson Planner", "Plans lessons per week.")).getId();
+		assertThat(productService.patchProduct(id, Map.of("name", "Lesson Planner 2"))).isEqualTo(WriteOutcome.APPLIED);
+
+		Product update = product("Lesson Planner 3", "Plans lessons per term.");
+		update.setId(id);
+		assertThat(productService.updateProduct(update)).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(update.getVersion()).isEqualTo(2L);
+		assertThat(productService.getProductById(id).orElseThrow().getVersion()).isEqualTo(2L);
+	}
+
+	@Test
+	void patchVersionMustBeAnInteger() {
+		Long id = productService.saveProduct(product("Grade Book", "Keeps grades per batch.")).getId();
+
+		assertThatThrownBy(() -> productService.patchProduct(id, Map.of("name", "Grade Book 2", "version", 1.9)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> productService.patchProduct(id, Map.of("name", "Grade Book 2", "version", "0")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> productService.patchProduct(id, Map.of("name", "Grade Book 2", "version", new BigInteger("18446744073709551616"))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(productService.patchProduct(id, Map.of("name", "Grade Book 2", "version", 0.0))).isEqualTo(WriteOutcome.APPLIED);
+		assertThat(productService.getProductById(id).orElseThrow().getVersion()).isEqualTo(1L);
+	}
+
+	private static Product product(String name, String description) {
+		Product product = new Product();
+		product.setName(name);
+		product.setShortDescription(name);
+		product.setDescription(description);
+		return product;
+	}
+
+	private static List<String> productStatements(List<String> statements) {
+		return statements.stream()
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).contains("product"))
+				.toList();
+	}
+
+}
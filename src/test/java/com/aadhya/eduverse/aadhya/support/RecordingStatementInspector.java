@@ -0,0 +1,32 @@
+package com.aadhya.eduverse.aadhya.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Registered through hibernate.session_factory.statement_inspector in application-test.properties
+public class RecordingStatementInspector implements StatementInspector {
+
+	private static final List<String> statements = new CopyOnWriteArrayList<>();
+	private static volatile boolean recording;
+
+	@Override
+	public String inspect(String sql) {
+		if (recording) {
+			statements.add(sql);
+		}
+		return sql;
+	}
+
+	public static void start() {
+		statements.clear();
+		recording = true;
+	}
+
+	public static List<String> stop() {
+		recording = false;
+		return List.copyOf(statements);
+	}
+
+}